@@ -28,10 +28,16 @@ import framework.db.ConnectionManager;
  * ۼ Actioin action.properties ϵȴ.
  */
 public abstract class Action {
-	private final Map<String, ConnectionManager> _connMgrMap = new HashMap<String, ConnectionManager>();
+	/**
+	 * ϰû ׸ ϴ   ϴ ûӼ ̸
+	 */
+	static final String SHARED_CONNECTIONS = "framework.action.Action.sharedConnections";
+	private Map<String, ConnectionManager> _connMgrMap = new HashMap<String, ConnectionManager>();
+	private boolean _sharedConnection = false;
 	private static final String _FLASH_SCOPE_OBJECT_KEY = "___FLASH_SCOPE_OBJECT___";
 	private HttpServlet _servlet = null;
 	private Box _input = null;
+	private Box _lazyInput = null;
 	private Box _cookies = null;
 	private MultipartBox _multipartInput = null;
 	private PrintWriter _out = null;
@@ -53,16 +59,20 @@ public abstract class Action {
 	 * @throws Exception Exception
 	 */
 	public void execute(HttpServlet servlet, HttpServletRequest request, HttpServletResponse response) throws Exception {
+		Method method = ActionMethods.forClass(getClass()).find(request.getParameter("action"));
+		if (method == null) {
+			throw new PageNotFoundExeption("action");
+		}
 		setServlet(servlet);
 		setRequest(request);
 		setResponse(response);
+		setSharedConnections(request);
 		this.flash = new HashMap<String, Object>();
-		flashRestore();
-		Method method = getMethod(request.getParameter("action"));
-		if (method == null) {
-			throw new PageNotFoundExeption("action");
-		}
 		try {
+			if (isNotModified(request, response)) {
+				return;
+			}
+			flashRestore();
 			method.invoke(this, (Object[]) null);
 		} finally {
 			flashSave();
@@ -70,6 +80,34 @@ public abstract class Action {
 		}
 	}
 
+	/**
+	 *   ū Ѵ.
+	 * null ̿  ϵ ϸ GET, HEAD û processXxx ޼ҵ带 ϱ  û URI  ū ETag ,
+	 * If-None-Match û ġϸ ޼ҵ带  ʰ 304  .
+	 * ȭ  뺸 ξ     ִ (: Ÿ  Ͻ) ؾ Ѵ.
+	 * <br>
+	 * ex) Խ  Ͻø  ϴ : return String.valueOf(maxUpdateTime);
+	 *
+	 * @return  ū,   null
+	 * @throws Exception  ū ϴ   ߻ 
+	 */
+	protected String getVersion() throws Exception {
+		return null;
+	}
+
+	/**
+	 * Action 񵿱   ŸӾƿ(ms) Ѵ.
+	 * 0 ū  ϵ ϸ ActionServlet û 񵿱  ȯϿ  Ǯ Ѵ.
+	 * config.properties action.async.׼Ű  Ǿ   켱Ѵ.
+	 * <br>
+	 * ex)  ɸ Ʈ Action ִ 60  񵿱 ϴ : return 60000;
+	 *
+	 * @return ŸӾƿ(ms), 0 ̸  
+	 */
+	protected long getAsyncTimeout() {
+		return 0;
+	}
+
 	/**
 	 * û JSP (Forward) Ѵ.
 	 * ۼ JSP  action.properties ϵȴ.
@@ -162,6 +200,7 @@ public abstract class Action {
 			}
 			try {
 				ConnectionManager connMgr = new ConnectionManager(dsName, this);
+				connMgr.setFetchSize(ConnectionManager.getDefaultFetchSize(serviceName));
 				if (dsName != null) {
 					connMgr.connect();
 				} else {
@@ -261,6 +300,22 @@ public abstract class Action {
 		return this._input;
 	}
 
+	/**
+	 * ûĶ͸  ʰ   ûü ã ؽ̺ Ѵ.
+	 * ĶͰ  û Ϻθ д  getInput()  Ѵ.
+	 * ûü ϹǷ , flash, ٸ   û  Ŀ   ؼ ȵǸ, ׷ 쿡 getInput()  Ѵ.
+	 * <br>
+	 * ex) [ name=ȫ浿 ] ûĶ͸ ޾ƿ : String name = getLazyInput().getString("name")
+	 *
+	 * @return ûĶ  д ؽ̺
+	 */
+	protected Box getLazyInput() {
+		if (this._lazyInput == null) {
+			this._lazyInput = Box.getLazyBox(getRequest());
+		}
+		return this._lazyInput;
+	}
+
 	/**
 	 * Multipart ûĶ   ִ ؽ̺ Ѵ.
 	 * <br>
@@ -277,6 +332,22 @@ public abstract class Action {
 		return this._multipartInput;
 	}
 
+	/**
+	 * Multipart û Ʈ  óϿ ûĶ   ִ ؽ̺ Ѵ.
+	 *  Ʈ ӽϷ  ʰ ϴ  handler ޵ȴ.
+	 * <br>
+	 * ex) ε   : List&lt;UploadedFile&gt; files = getMultipartInput(handler).getUploadedFiles()
+	 *
+	 * @param handler  Ʈ ó ü
+	 * @return ûĶ   ؽ̺
+	 */
+	protected MultipartBox getMultipartInput(MultipartFileHandler handler) {
+		if (this._multipartInput == null) {
+			this._multipartInput = MultipartBox.getMultipartBox(getRequest(), handler);
+		}
+		return this._multipartInput;
+	}
+
 	/**
 	 * Ű  ִ ؽ̺ Ѵ.
 	 * <br>
@@ -293,6 +364,18 @@ public abstract class Action {
 		return this._cookies;
 	}
 
+	/**
+	 * ׼Ű  ĳø  ȿȭѴ.
+	 * ĳ(config.properties action.cache.׼Ű) ϴ ׼ Ÿ   ȣѴ.
+	 * <br>
+	 * ex) Խ    ĳø ȿȭ ϴ : invalidateCache("/board/list")
+	 *
+	 * @param actionKey ȿȭ ׼Ű
+	 */
+	protected void invalidateCache(String actionKey) {
+		ResponseCache.invalidate(actionKey);
+	}
+
 	/**
 	 * 䰴ü PrintWriter ü Ѵ.
 	 * <br>
@@ -388,7 +471,27 @@ public abstract class Action {
 		this._response = res;
 	}
 
+	/*
+	 * ϰû ϴ    Ѵ.  ڴ ϰû   ȴ.
+	 */
+	@SuppressWarnings("unchecked")
+	private void setSharedConnections(HttpServletRequest request) {
+		Map<String, ConnectionManager> shared = (Map<String, ConnectionManager>) request.getAttribute(SHARED_CONNECTIONS);
+		if (shared != null) {
+			this._connMgrMap = shared;
+			this._sharedConnection = true;
+		}
+	}
+
 	private void destroy() {
+		if (this._sharedConnection) {
+			this._connMgrMap = new HashMap<String, ConnectionManager>();
+			this._sharedConnection = false;
+			this._input = null;
+			this._lazyInput = null;
+			this._out = null;
+			return;
+		}
 		ConnectionManager connMgr = null;
 		for (String key : this._connMgrMap.keySet()) {
 			connMgr = this._connMgrMap.get(key);
@@ -399,28 +502,28 @@ public abstract class Action {
 		}
 		this._connMgrMap.clear();
 		this._input = null;
+		this._lazyInput = null;
 		this._out = null;
 	}
 
-	private Method getMethod(String methodName) {
-		if (methodName == null || methodName.trim().equals("")) {
-			methodName = "init";
+	/*
+	 *  ū  ETag If-None-Match û ġϸ 304  
+	 */
+	private boolean isNotModified(HttpServletRequest request, HttpServletResponse response) throws Exception {
+		if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+			return false;
 		}
-		StringBuilder sb = new StringBuilder(methodName);
-		sb.setCharAt(0, Character.toUpperCase(methodName.charAt(0)));
-		String name = "process" + sb.toString().trim();
-		Method m = getMethod(this.getClass(), name);
-		return m;
-	}
-
-	private static Method getMethod(Class<?> actionClass, String methodName) {
-		Method method[] = actionClass.getMethods();
-		for (int i = 0; i < method.length; i++) {
-			if (method[i].getName().equals(methodName)) {
-				return method[i];
-			}
+		String version = getVersion();
+		if (version == null) {
+			return false;
 		}
-		return null;
+		String etag = ETagResponseWrapper.createETag(request, version);
+		response.setHeader("ETag", etag);
+		if (ETagResponseWrapper.matches(request.getHeader("If-None-Match"), etag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return true;
+		}
+		return false;
 	}
 
 	/*
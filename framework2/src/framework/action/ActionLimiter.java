@@ -0,0 +1,182 @@
+/**
+ * @(#)ActionLimiter.java
+ */
+package framework.action;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.cache.Cache;
+import framework.config.Configuration;
+
+/**
+ * ׼Ű Ǵ processXxx ޼ҵ ý  ʴ ó ϴ Ŭ̴.
+ * ý  Semaphore , ó  ϳ AtomicLong   ūŶ(GCRA) óϹǷ   ʴ´.
+ * Ŭ 忡 ó framework.cache.Cache  īͷ Ͽ    Ѵ.
+ * ĳ īͷδ GCRA     Ƿ ( ִ 뷮 / ʴ ó)    츶
+ *  ִ 뷮 ŭ ϴ  ٻѴ.  ó  ִ 뷮 ,
+ *  迡  ִ 뷮 ι ޾   ִ.
+ * <br>
+ * config.properties  (̸ ׼Ű Ǵ ׼Ű#޼ҵ, : /report/excel#processExcel)
+ * <br>
+ * action.limit.concurrency.̸ : ý ִ , ʰ 503 
+ * <br>
+ * action.limit.rate.̸ : ʴ ó[, ִ 뷮] (: 5 Ǵ 5,20), ʰ 429 
+ * <br>
+ * action.limit.cluster : true ̸ ó ĳü Ͽ Ŭ ü  (⺻ false)
+ */
+final class ActionLimiter {
+	private static Log _logger = LogFactory.getLog(framework.action.ActionLimiter.class);
+	private static final String _CACHE_KEY_PREFIX = "framework.limit.";
+	private final String _name;
+	private final String _settings;
+	private final Semaphore _concurrency;
+	private final long _interval;
+	private final long _tolerance;
+	private final boolean _cluster;
+	private final long _window;
+	private final long _windowLimit;
+	private final AtomicLong _arrival = new AtomicLong(Long.MIN_VALUE);
+
+	private ActionLimiter(String name, int concurrency, double rate, int burst, boolean cluster) {
+		this._name = name;
+		this._settings = _settings(concurrency, rate, burst, cluster);
+		this._concurrency = concurrency > 0 ? new Semaphore(concurrency) : null;
+		this._interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+		this._tolerance = this._interval * (Math.max(1, burst) - 1);
+		this._cluster = cluster;
+		this._window = rate > 0 ? Math.max(1, (long) Math.ceil(Math.max(1, burst) / rate)) : 1;
+		this._windowLimit = Math.max(1, (long) Math.floor(rate * this._window));
+	}
+
+	/**
+	 * config.properties   ü Ѵ.
+	 *
+	 * @param name ׼Ű Ǵ ׼Ű#޼ҵ
+	 * @return  ü,   null
+	 */
+	static ActionLimiter create(String name) {
+		return create(name, null);
+	}
+
+	/**
+	 * config.properties   ü Ѵ.
+	 *   ü  ٲ ʾ  ý 뷮 ó ¸ ϵ  ü ״ Ѵ.
+	 *
+	 * @param name ׼Ű Ǵ ׼Ű#޼ҵ
+	 * @param previous ٽ б   ü,  null
+	 * @return  ü,   null
+	 */
+	static ActionLimiter create(String name, ActionLimiter previous) {
+		int concurrency = getConfig().getInt("action.limit.concurrency." + name, 0);
+		double rate = 0;
+		int burst = 1;
+		String rateValue = getConfig().getString("action.limit.rate." + name, "");
+		if (rateValue.length() > 0) {
+			try {
+				int comma = rateValue.indexOf(',');
+				if (comma < 0) {
+					rate = Double.parseDouble(rateValue);
+					burst = (int) Math.max(1, Math.ceil(rate));
+				} else {
+					rate = Double.parseDouble(rateValue.substring(0, comma).trim());
+					burst = Integer.parseInt(rateValue.substring(comma + 1).trim());
+				}
+			} catch (NumberFormatException e) {
+				getLogger().error("ó   ùٸ ʽϴ. (action.limit.rate." + name + "=" + rateValue + ")");
+				rate = 0;
+			}
+		}
+		if (concurrency <= 0 && rate <= 0) {
+			return null;
+		}
+		boolean cluster = getConfig().getBoolean("action.limit.cluster", false);
+		if (previous != null && previous._settings.equals(_settings(concurrency, rate, burst, cluster))) {
+			return previous;
+		}
+		return new ActionLimiter(name, concurrency, rate, burst, cluster);
+	}
+
+	/**
+	 * ó  ˻Ͽ Ǹ ū Ѵ.
+	 *
+	 * @return 0 ̸ ,  ܿ ٽ û  ٷ  ð()
+	 */
+	long tryRate() {
+		if (_interval <= 0) {
+			return 0;
+		}
+		if (_cluster) {
+			return _tryClusterRate();
+		}
+		long now = System.nanoTime();
+		while (true) {
+			long arrival = _arrival.get();
+			long next = (arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival) + _interval;
+			long wait = next - now - _interval - _tolerance;
+			if (wait > 0) {
+				return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+			}
+			if (_arrival.compareAndSet(arrival, next)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * ý 뷮 ϳ Ѵ.
+	 *
+	 * @return 뿩
+	 */
+	boolean tryEnter() {
+		return _concurrency == null || _concurrency.tryAcquire();
+	}
+
+	/**
+	 *  ý 뷮 ݳѴ.
+	 */
+	void exit() {
+		if (_concurrency != null) {
+			_concurrency.release();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ActionLimiter[" + _name + "]";
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static String _settings(int concurrency, double rate, int burst, boolean cluster) {
+		return concurrency + "," + rate + "," + burst + "," + cluster;
+	}
+
+	/**
+	 * ĳü  īͷ ó ˻Ѵ. ĳü ÿ Ѵ.
+	 */
+	private long _tryClusterRate() {
+		long second = System.currentTimeMillis() / 1000;
+		long window = second / _window;
+		try {
+			long count = Cache.incr(_CACHE_KEY_PREFIX + _name + "." + _window + "." + window, 1, (int) _window + 1);
+			if (count > _windowLimit) {
+				return _window - (second % _window);
+			}
+		} catch (Exception e) {
+			getLogger().warn("ó ī͸  ߽ϴ. (" + _name + ")", e);
+		}
+		return 0;
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static Log getLogger() {
+		return ActionLimiter._logger;
+	}
+}
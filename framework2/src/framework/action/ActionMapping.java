@@ -0,0 +1,228 @@
+/**
+ * @(#)ActionMapping.java
+ */
+package framework.action;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+
+/**
+ * action.properties   ʱȭ  ѹ ؼϿ ϴ  ̴̺.
+ * ׼Ű شϴ Action Ŭ ڸ ̸ ãƵιǷ û ҽ ȸ, Class.forName  ʴ´.
+ *  Ŀ  Ƿ  忡   ȸ  ִ.
+ */
+public final class ActionMapping {
+	/**
+	 * ServletContext  ̺ ϴ Ӽ ̸
+	 */
+	public static final String ATTRIBUTE_NAME = "framework.action.ActionMapping";
+	private static Log _logger = LogFactory.getLog(framework.action.ActionMapping.class);
+	private final ResourceBundle _bundle;
+	private final Map<String, ActionRoute> _routes;
+	private final Map<String, String> _values;
+	private final Map<String, ActionLimiter> _limiters;
+	private final ConcurrentMap<String, RequestDispatcher> _dispatchers = new ConcurrentHashMap<String, RequestDispatcher>();
+
+	private ActionMapping(ResourceBundle bundle, Map<String, ActionRoute> routes, Map<String, String> values, Map<String, ActionLimiter> limiters) {
+		this._bundle = bundle;
+		this._routes = routes;
+		this._values = values;
+		this._limiters = limiters;
+	}
+
+	/**
+	 * ҽ   Ű ؼϿ  ̺ Ѵ.
+	 *  "/"  Ե Ű (JSP) η ϸ,   Ű Action Ŭ ؼѴ.
+	 * Ŭ ã  ų Action ӹ  Ŭ  α׸  ̺ Ѵ.
+	 *
+	 * @param bundle action.properties ҽ 
+	 * @return  ̺
+	 */
+	public static ActionMapping load(ResourceBundle bundle) {
+		return load(bundle, false, null);
+	}
+
+	/**
+	 * ҽ   Ű ؼϿ  ̺ Ѵ.
+	 * strict  true ̸ ؼ   Action Ŭ ϳ   ̺  ʰ ܸ .
+	 *   ٽ   ߸ Ϸ   ̺ ü ʱ  Ѵ.
+	 *
+	 * @param bundle action.properties ҽ 
+	 * @param strict    ܸ  
+	 * @return  ̺
+	 * @throws IllegalArgumentException strict 忡 ؼ   Action Ŭ ִ 
+	 */
+	public static ActionMapping load(ResourceBundle bundle, boolean strict) {
+		return load(bundle, strict, null);
+	}
+
+	/**
+	 * ҽ   Ű ؼϿ  ̺ Ѵ.
+	 * previous    ٲ  ý, ó  ü  ̺ ״ ϹǷ
+	 * ٽ д  ó û  뷮 ó ° ʱȭ ʴ´.
+	 *
+	 * @param bundle action.properties ҽ 
+	 * @param strict    ܸ  
+	 * @param previous   ̺,  null
+	 * @return  ̺
+	 * @throws IllegalArgumentException strict 忡 ؼ   Action Ŭ ִ 
+	 */
+	static ActionMapping load(ResourceBundle bundle, boolean strict, ActionMapping previous) {
+		Map<String, ActionRoute> routes = new HashMap<String, ActionRoute>();
+		Map<String, String> values = new HashMap<String, String>();
+		Map<String, ActionLimiter> allLimiters = new HashMap<String, ActionLimiter>();
+		Map<String, ActionLimiter> previousLimiters = previous == null ? Collections.<String, ActionLimiter>emptyMap() : previous._limiters;
+		long defaultAsyncTimeout = getConfig().getLong("action.async.timeout", 0);
+		boolean defaultETag = getConfig().getBoolean("action.etag", false);
+		List<String> errors = new ArrayList<String>();
+		for (Enumeration<String> keys = bundle.getKeys(); keys.hasMoreElements();) {
+			String key = keys.nextElement();
+			String value = bundle.getString(key).trim();
+			values.put(key, value);
+			if ("".equals(value) || value.indexOf('/') >= 0) {
+				continue;
+			}
+			try {
+				Class<?> clazz = Class.forName(value, false, ActionMapping.class.getClassLoader());
+				if (!Action.class.isAssignableFrom(clazz)) {
+					errors.add(key + "=" + value);
+					getLogger().error("Action Ŭ ƴմϴ. (" + key + "=" + value + ")");
+					continue;
+				}
+				Constructor<? extends Action> constructor = clazz.asSubclass(Action.class).getDeclaredConstructor();
+				constructor.setAccessible(true);
+				long asyncTimeout = getConfig().getLong("action.async." + key, defaultAsyncTimeout);
+				int cacheTtl = getConfig().getInt("action.cache." + key, 0);
+				String[] cacheVary = _split(getConfig().getString("action.cache.vary." + key, ""));
+				boolean etag = getConfig().getBoolean("action.etag." + key, defaultETag);
+				ActionLimiter limiter = ActionLimiter.create(key, previousLimiters.get(key));
+				if (limiter != null) {
+					allLimiters.put(key, limiter);
+				}
+				ActionLimiter[] limiters = limiter == null ? new ActionLimiter[0] : new ActionLimiter[] { limiter };
+				Map<String, ActionLimiter[]> methodLimiters = new HashMap<String, ActionLimiter[]>();
+				for (Method method : ActionMethods.forClass(clazz).getMethods()) {
+					String name = key + "#" + method.getName();
+					ActionLimiter methodLimiter = ActionLimiter.create(name, previousLimiters.get(name));
+					if (methodLimiter != null) {
+						allLimiters.put(name, methodLimiter);
+						methodLimiters.put(method.getName(), limiter == null ? new ActionLimiter[] { methodLimiter } : new ActionLimiter[] { limiter, methodLimiter });
+					}
+				}
+				routes.put(key, new ActionRoute(key, constructor, asyncTimeout, cacheTtl, cacheVary, etag, limiters, methodLimiters));
+			} catch (ClassNotFoundException e) {
+				errors.add(key + "=" + value);
+				getLogger().error("Action Ŭ ã  ϴ. (" + key + "=" + value + ")");
+			} catch (NoSuchMethodException e) {
+				errors.add(key + "=" + value);
+				getLogger().error("Action Ŭ ⺻ ڰ ϴ. (" + key + "=" + value + ")");
+			}
+		}
+		if (strict && !errors.isEmpty()) {
+			throw new IllegalArgumentException("Action ο  ֽϴ. " + errors);
+		}
+		getLogger().info("Action  εϿϴ. (" + routes.size() + ")");
+		return new ActionMapping(bundle, Collections.unmodifiableMap(routes), Collections.unmodifiableMap(values), allLimiters);
+	}
+
+	/**
+	 * ׼Ű شϴ   Ѵ.
+	 *
+	 * @param key ׼Ű
+	 * @return  , εǾ   null
+	 */
+	public ActionRoute getRoute(String key) {
+		if (key == null) {
+			return null;
+		}
+		return this._routes.get(key);
+	}
+
+	/**
+	 * Ű ε (JSP) θ Ѵ.
+	 *
+	 * @param key action.properties Ͽ ϵ JSP  Ű
+	 * @return յ  ŵ , εǾ   null
+	 */
+	public String getView(String key) {
+		if (key == null) {
+			return null;
+		}
+		return this._values.get(key);
+	}
+
+	/**
+	 *  ο شϴ RequestDispatcher Ѵ.
+	 * ѹ ã RequestDispatcher  ̺ Ǵ  ȴ.
+	 *
+	 * @param context  ؽƮ
+	 * @param url  
+	 * @return RequestDispatcher ü
+	 */
+	public RequestDispatcher getDispatcher(ServletContext context, String url) {
+		RequestDispatcher dispatcher = this._dispatchers.get(url);
+		if (dispatcher == null) {
+			dispatcher = context.getRequestDispatcher(url);
+			if (dispatcher != null) {
+				this._dispatchers.putIfAbsent(url, dispatcher);
+			}
+		}
+		return dispatcher;
+	}
+
+	/**
+	 *  ̺  ҽ  Ѵ.
+	 *
+	 * @return action.properties ҽ 
+	 */
+	public ResourceBundle getBundle() {
+		return this._bundle;
+	}
+
+	/**
+	 *  ̺ ϵ Action  Ѵ.
+	 *
+	 * @return ϵ Action 
+	 */
+	public int size() {
+		return this._routes.size();
+	}
+
+	/**
+	 * ޸ е    迭 ȯѴ.
+	 */
+	private static String[] _split(String value) {
+		List<String> list = new ArrayList<String>();
+		for (String item : value.split(",")) {
+			if (item.trim().length() > 0) {
+				list.add(item.trim());
+			}
+		}
+		return list.toArray(new String[list.size()]);
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static Log getLogger() {
+		return ActionMapping._logger;
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * @(#)ActionMethods.java
+ */
+package framework.action;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Action Ŭ ûĶ action   processXxx ޼ҵ带   ġ ̴̺.
+ * Ŭ ѹ Ǿ ĳõǹǷ û ޼ҵ , getMethods() 迭   ˻  ʴ´.
+ */
+final class ActionMethods {
+	private static final String _PREFIX = "process";
+	private static final String _DEFAULT_ACTION = "init";
+	private static final ConcurrentMap<Class<?>, ActionMethods> _cache = new ConcurrentHashMap<Class<?>, ActionMethods>();
+	private final Map<String, Method> _methods;
+
+	private ActionMethods(Map<String, Method> methods) {
+		this._methods = methods;
+	}
+
+	/**
+	 * Action Ŭ ġ ̺ Ѵ.
+	 * ó û Ŭ ̺ Ͽ ĳÿ Ѵ.
+	 *
+	 * @param actionClass Action Ŭ
+	 * @return ġ ̺
+	 */
+	static ActionMethods forClass(Class<?> actionClass) {
+		ActionMethods methods = _cache.get(actionClass);
+		if (methods == null) {
+			methods = build(actionClass);
+			ActionMethods prev = _cache.putIfAbsent(actionClass, methods);
+			if (prev != null) {
+				methods = prev;
+			}
+		}
+		return methods;
+	}
+
+	/**
+	 * ûĶ action  شϴ ޼ҵ带 Ѵ.
+	 * action   processInit ޼ҵ带 ã´.
+	 *
+	 * @param action ûĶ action 
+	 * @return  ޼ҵ,  null
+	 */
+	Method find(String action) {
+		if (action == null || action.length() == 0) {
+			return _methods.get(_DEFAULT_ACTION);
+		}
+		Method method = _methods.get(action);
+		if (method == null) {
+			String trimmed = action.trim();
+			if (trimmed.length() == 0) {
+				return _methods.get(_DEFAULT_ACTION);
+			}
+			if (trimmed.length() != action.length()) {
+				method = _methods.get(trimmed);
+			}
+		}
+		return method;
+	}
+
+	/**
+	 * ġ ̺ ϵ processXxx ޼ҵ  Ѵ.
+	 *
+	 * @return ޼ҵ 
+	 */
+	Collection<Method> getMethods() {
+		return new HashSet<Method>(_methods.values());
+	}
+
+	/**
+	 * ޼ҵ process ϰ ĶͰ  public ޼ҵ带 ã ̺ Ѵ.
+	 * processSearch ޼ҵ action  "search", "Search"   ã  ִ.
+	 */
+	private static ActionMethods build(Class<?> actionClass) {
+		Map<String, Method> methods = new HashMap<String, Method>();
+		for (Method method : actionClass.getMethods()) {
+			String name = method.getName();
+			if (!name.startsWith(_PREFIX) || name.length() == _PREFIX.length() || method.getParameterTypes().length > 0 || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			String suffix = name.substring(_PREFIX.length());
+			char first = suffix.charAt(0);
+			if (Character.toUpperCase(first) != first) {
+				continue;
+			}
+			method.setAccessible(true);
+			methods.put(suffix, method);
+			char lower = Character.toLowerCase(first);
+			if (lower != first && Character.toUpperCase(lower) == first) {
+				methods.put(lower + suffix.substring(1), method);
+			}
+		}
+		return new ActionMethods(Collections.unmodifiableMap(methods));
+	}
+}
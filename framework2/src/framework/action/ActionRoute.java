@@ -0,0 +1,134 @@
+/**
+ * @(#)ActionRoute.java
+ */
+package framework.action;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * action.properties ϵ ϳ ׼Ű     Ŭ̴.
+ *  ʱȭ  Action Ŭ ڸ ̸ ãƵξ ûÿ ü Ѵ.
+ */
+public final class ActionRoute {
+	private final String _key;
+	private final Constructor<? extends Action> _constructor;
+	private final long _asyncTimeout;
+	private final int _cacheTtl;
+	private final String[] _cacheVary;
+	private final boolean _etag;
+	private final ActionLimiter[] _limiters;
+	private final Map<String, ActionLimiter[]> _methodLimiters;
+
+	/**
+	 * ActionRoute 
+	 *
+	 * @param key ׼Ű
+	 * @param constructor Action Ŭ ⺻ 
+	 * @param asyncTimeout 񵿱  ŸӾƿ(ms), 0 ̸  
+	 * @param cacheTtl ĳ ð(), 0 ̸ ĳ 
+	 * @param cacheVary ĳ Ű  û, Ű  (: header:Accept-Language, cookie:lang)
+	 * @param etag 亻 ؽ ETag  
+	 * @param limiters ׼Ű ý, ó  
+	 * @param methodLimiters processXxx ޼ҵ ý, ó   (׼Ű  )
+	 */
+	ActionRoute(String key, Constructor<? extends Action> constructor, long asyncTimeout, int cacheTtl, String[] cacheVary, boolean etag, ActionLimiter[] limiters, Map<String, ActionLimiter[]> methodLimiters) {
+		this._key = key;
+		this._constructor = constructor;
+		this._asyncTimeout = asyncTimeout;
+		this._cacheTtl = cacheTtl;
+		this._cacheVary = cacheVary;
+		this._etag = etag;
+		this._limiters = limiters;
+		this._methodLimiters = methodLimiters;
+	}
+
+	/**
+	 * ׼Ű Ѵ.
+	 *
+	 * @return ׼Ű
+	 */
+	public String getKey() {
+		return this._key;
+	}
+
+	/**
+	 * ׼Ű ε Action Ŭ Ѵ.
+	 *
+	 * @return Action Ŭ
+	 */
+	public Class<? extends Action> getActionClass() {
+		return this._constructor.getDeclaringClass();
+	}
+
+	/**
+	 * config.properties action.async.׼Ű   񵿱  ŸӾƿ Ѵ.
+	 *
+	 * @return ŸӾƿ(ms), 0 ̸  
+	 */
+	public long getAsyncTimeout() {
+		return this._asyncTimeout;
+	}
+
+	/**
+	 * config.properties action.cache.׼Ű   ĳ ð Ѵ.
+	 *
+	 * @return ð(), 0 ̸ ĳ 
+	 */
+	public int getCacheTtl() {
+		return this._cacheTtl;
+	}
+
+	/**
+	 * config.properties action.cache.vary.׼Ű   ĳ Ű  û, Ű  Ѵ.
+	 *
+	 * @return û, Ű 
+	 */
+	public String[] getCacheVary() {
+		return this._cacheVary.clone();
+	}
+
+	/**
+	 * config.properties action.etag.׼Ű   ETag  θ Ѵ.
+	 *
+	 * @return 亻 ؽ ETag  
+	 */
+	public boolean isETag() {
+		return this._etag;
+	}
+
+	/**
+	 * ûĶ action   ޼ҵ忡  ý, ó   Ѵ.
+	 *
+	 * @param action ûĶ action 
+	 * @return  ,   ̰ 0 迭
+	 */
+	ActionLimiter[] getLimiters(String action) {
+		if (!_methodLimiters.isEmpty()) {
+			Method method = ActionMethods.forClass(getActionClass()).find(action);
+			if (method != null) {
+				ActionLimiter[] limiters = _methodLimiters.get(method.getName());
+				if (limiters != null) {
+					return limiters;
+				}
+			}
+		}
+		return _limiters;
+	}
+
+	/**
+	 * ̸ ãƵ ڷ Action ü Ѵ.
+	 *
+	 * @return   Action ü
+	 * @throws Exception ü  ߻ 
+	 */
+	public Action newInstance() throws Exception {
+		return this._constructor.newInstance();
+	}
+
+	@Override
+	public String toString() {
+		return "ActionRoute[" + this._key + "=" + getActionClass().getName() + "]";
+	}
+}
@@ -4,9 +4,12 @@
 package framework.action;
 
 import java.io.IOException;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import javax.servlet.GenericServlet;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -18,6 +21,7 @@ import org.apache.commons.logging.LogFactory;
  * Ŭ̾Ʈ û ( Ǵ ) ִ Ŭ̴.
  * action.properties ϵǾ Ű  εǾ ִ JSP  ã Ķͷ Է¹ ÷׸  
  *   ϰ ȴ.
+ *  JSP ο RequestDispatcher ActionServlet   ̺(ActionMapping) ĳõǾ ȴ.
  */
 public class ActionRouter {
 	private final String _key;
@@ -53,11 +57,29 @@ public class ActionRouter {
 	 * @throws ServletException ServletException
 	 * @throws IOException IOException
 	 */
-	public synchronized void route(GenericServlet servlet, HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+	public void route(GenericServlet servlet, HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
 		if (this._isForward) {
-			ResourceBundle bundle = (ResourceBundle) servlet.getServletContext().getAttribute("action-mapping");
-			String url = ((String) bundle.getObject(this._key)).trim();
-			servlet.getServletContext().getRequestDispatcher(response.encodeURL(url)).forward(request, response);
+			ServletContext context = servlet.getServletContext();
+			ActionMapping mapping = (ActionMapping) context.getAttribute(ActionMapping.ATTRIBUTE_NAME);
+			String url = null;
+			RequestDispatcher dispatcher = null;
+			if (mapping == null) {
+				ResourceBundle bundle = (ResourceBundle) context.getAttribute("action-mapping");
+				url = ((String) bundle.getObject(this._key)).trim();
+				dispatcher = context.getRequestDispatcher(response.encodeURL(url));
+			} else {
+				url = mapping.getView(this._key);
+				if (url == null) {
+					throw new MissingResourceException("Can't find resource for key " + this._key, ActionMapping.class.getName(), this._key);
+				}
+				String encodedUrl = response.encodeURL(url);
+				if (url.equals(encodedUrl)) {
+					dispatcher = mapping.getDispatcher(context, url);
+				} else {
+					dispatcher = context.getRequestDispatcher(encodedUrl);
+				}
+			}
+			dispatcher.forward(request, response);
 			if (getLogger().isDebugEnabled()) {
 				getLogger().debug("١١ " + request.getRemoteAddr() + "   \"" + request.getMethod() + " " + request.getRequestURI() + "\" û \"" + url + "\"  forward Ǿϴ");
 			}
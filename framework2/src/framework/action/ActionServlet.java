@@ -4,8 +4,12 @@
 package framework.action;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletConfig;
@@ -18,6 +22,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import framework.cache.Cache;
+import framework.config.Configuration;
+import framework.db.ConnectionPool;
+import framework.db.DataSourceRegistry;
+import framework.db.SQLCollector;
 import framework.util.StringUtil;
 
 /**
@@ -28,11 +36,23 @@ import framework.util.StringUtil;
  */
 public class ActionServlet extends HttpServlet {
 	private static final long serialVersionUID = -6478697606075642071L;
+	private static final int _SC_TOO_MANY_REQUESTS = 429;
+	private static final String _INCLUDE_REQUEST_URI = "javax.servlet.include.request_uri";
 	private final Log _logger = LogFactory.getLog(framework.action.ActionServlet.class);
+	private volatile ActionMapping _mapping = null;
+	private AsyncActionExecutor _asyncExecutor = null;
+	private ActionStats _stats = null;
+	private ConfigReloader _reloader = null;
+	private StaticResourceCache _staticCache = null;
+	private BatchExecutor _batchExecutor = null;
+	private final AtomicLong _notFoundCount = new AtomicLong();
+	private long _notFoundLogSample = 100;
 
 	/**
 	 *  ü ʱȭ Ѵ.
 	 * web.xml ʱȭ Ķͷ ϵǾ ִ action-mapping  ã ҽ  ϴ  Ѵ.
+	 * ҽ 鿡 ϵ Action Ŭ    ̺ ȯǾ ûÿ ȸ Ѵ.
+	 * action.reload.interval  Ǿ  ϰ   Ͽ  ̺ üѴ.
 	 *
 	 * @param config ServletConfig ü
 	 */
@@ -62,9 +82,19 @@ public class ActionServlet extends HttpServlet {
 		} catch (MissingResourceException e) {
 			throw new ServletException(e);
 		}
-		getServletContext().setAttribute("action-mapping", bundle);
+		setMapping(ActionMapping.load(bundle));
+		_asyncExecutor = new AsyncActionExecutor();
+		_stats = new ActionStats();
+		String contextName = getServletContext().getServletContextName();
+		_stats.register(contextName == null ? getServletName() : contextName + "/" + getServletName());
 		// Cache
 		Cache.init();
+		DataSourceRegistry.init();
+		_staticCache = new StaticResourceCache();
+		_batchExecutor = new BatchExecutor(this);
+		_notFoundLogSample = Configuration.getInstance().getLong("action.notfound.logSample", 100);
+		_reloader = new ConfigReloader(this, ActionServlet.class.getClassLoader().getResource(config.getInitParameter("action-mapping").replace('.', '/') + ".properties"));
+		_reloader.start();
 	}
 
 	/**
@@ -95,6 +125,21 @@ public class ActionServlet extends HttpServlet {
 		processRequest(request, response);
 	}
 
+	/**
+	 * Ŭ̾Ʈ Head  û  processRequest ó ̰Ѵ.
+	 * 亻  ʰ (Content-Length, ETag) Ѵ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 *
+	 * @exception java.io.IOException ActionServlet IO õ  ߻ 
+	 * @exception javax.servlet.ServletException  õ  ߻ 
+	 */
+	@Override
+	protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+		processRequest(request, response);
+	}
+
 	/**
 	 * Ŭ̾Ʈ Put  û  processRequest ó ̰Ѵ.
 	 *
@@ -123,36 +168,124 @@ public class ActionServlet extends HttpServlet {
 		processRequest(request, response);
 	}
 
+	/**
+	 *  ü Ѵ.
+	 *  ÿ 񵿱    带 ϰ  MBean ϸ ؼǮ ݴ  Ѵ.
+	 */
+	@Override
+	public void destroy() {
+		if (_reloader != null) {
+			_reloader.stop();
+		}
+		if (_stats != null) {
+			_stats.unregister();
+		}
+		if (_asyncExecutor != null) {
+			_asyncExecutor.shutdown();
+		}
+		if (_batchExecutor != null) {
+			_batchExecutor.shutdown();
+		}
+		ConnectionPool.closeAll();
+		DataSourceRegistry.shutdown();
+		super.destroy();
+	}
+
+	/**
+	 *  ̺ üѴ.
+	 * ûó  û ѹ  ̺ Ƿ ó û  ̺  ȴ.
+	 *
+	 * @param mapping   ̺
+	 */
+	void setMapping(ActionMapping mapping) {
+		getServletContext().setAttribute("action-mapping", mapping.getBundle());
+		getServletContext().setAttribute(ActionMapping.ATTRIBUTE_NAME, mapping);
+		_mapping = mapping;
+	}
+
+	/**
+	 *   ̺ Ѵ.
+	 *
+	 * @return  ̺
+	 */
+	ActionMapping getMapping() {
+		return _mapping;
+	}
+
+	/**
+	 *  ٽ   ߿ ٲ  ִ Ǯ ũ   Ѵ.
+	 */
+	void reconfigure() {
+		_asyncExecutor.reconfigure();
+		_batchExecutor.reconfigure();
+	}
+
+	/**
+	 * ϰû Ľ ׸ ϳ ȣ 忡  Ѵ.
+	 *
+	 * @param request ׸ ûü
+	 * @param response ׸ 䰴ü
+	 * @throws ServletException  õ  ߻ 
+	 * @throws IOException IO õ  ߻ 
+	 */
+	void processBatchItem(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		processRequest(request, response, false);
+	}
+
 	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
 	private void processRequest(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		String actionKey = getActionKey(request);
+		if (_batchExecutor.isBatch(actionKey)) {
+			_batchExecutor.execute(request, response);
+			return;
+		}
+		// ϰû  ׸ó include   û 񵿱 ѱ ʴ´.
+		processRequest(request, response, request.getAttribute(_INCLUDE_REQUEST_URI) == null);
+	}
+
+	private void processRequest(final HttpServletRequest request, final HttpServletResponse response, boolean allowAsync) throws ServletException, IOException {
 		try {
-			String actionKey = getActionKey(request);
-			String actionClassName = getActionClass(actionKey);
-			Action action = null;
-			if (actionClassName == null) {
-				throw new PageNotFoundExeption("controller");
-			} else {
-				Class<?> actionClass = Class.forName(actionClassName);
-				action = (Action) actionClass.newInstance();
-				long currTime = 0;
-				if (getLogger().isDebugEnabled()) {
-					currTime = System.currentTimeMillis();
-					getLogger().debug("ڡڡ " + request.getRemoteAddr() + "   \"" + request.getMethod() + " " + request.getRequestURI() + "\" û ۵Ǿϴ");
-					getLogger().debug("ContentLength : " + request.getContentLength() + "bytes");
+			final ActionRoute route = _mapping.getRoute(getActionKey(request));
+			if (route == null) {
+				notFound(request, response, "controller");
+				return;
+			}
+			if (ActionMethods.forClass(route.getActionClass()).find(request.getParameter("action")) == null) {
+				notFound(request, response, "action");
+				return;
+			}
+			final String cacheKey = route.getCacheTtl() > 0 && ResponseCache.isCacheable(request) ? ResponseCache.getKey(route, request) : null;
+			if (cacheKey != null) {
+				CachedResponse cachedResponse = ResponseCache.get(cacheKey);
+				if (cachedResponse != null) {
+					cachedResponse.writeTo(request, response);
+					return;
 				}
-				action.execute(this, request, response);
-				if (getLogger().isDebugEnabled()) {
-					getLogger().debug("١١ " + request.getRemoteAddr() + "   \"" + request.getMethod() + " " + request.getRequestURI() + "\" û Ǿϴ | duration : " + (System.currentTimeMillis() - currTime) + "ms\n");
+			}
+			final ActionLimiter[] limiters = route.getLimiters(request.getParameter("action"));
+			if (!admit(limiters, response)) {
+				return;
+			}
+			final Runnable exit = limiters.length == 0 ? null : new Runnable() {
+				private final AtomicBoolean _exited = new AtomicBoolean(false);
+
+				@Override
+				public void run() {
+					if (_exited.compareAndSet(false, true)) {
+						exit(limiters, limiters.length);
+					}
+				}
+			};
+			boolean async = false;
+			try {
+				async = executeRoute(route, cacheKey, exit, allowAsync, request, response);
+			} finally {
+				if (!async && exit != null) {
+					exit.run();
 				}
 			}
 		} catch (PageNotFoundExeption e) {
-			RequestDispatcher dispatcher = (RequestDispatcher) getServletContext().getAttribute("default-servlet-dispatcher");
-			if (dispatcher != null) {
-				dispatcher.forward(request, response);
-			} else {
-				response.sendError(404);
-				response.setContentType("text/plain;charset=utf-8");
-			}
+			notFound(request, response, e.getMessage());
 			return;
 		} catch (Exception e) {
 			getLogger().error(e);
@@ -160,14 +293,133 @@ public class ActionServlet extends HttpServlet {
 		}
 	}
 
-	private String getActionClass(String actionKey) {
-		ResourceBundle bundle = (ResourceBundle) getServletContext().getAttribute("action-mapping");
+	/*
+	 * Action ü Ͽ  Ǵ 񵿱 Ѵ. 񵿱  ѱ  true  ϸ, ̶ exit  񵿱 ۾   ȴ.
+	 */
+	private boolean executeRoute(final ActionRoute route, final String cacheKey, Runnable exit, boolean allowAsync, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+		final Action action = route.newInstance();
+		long asyncTimeout = route.getAsyncTimeout() > 0 ? route.getAsyncTimeout() : action.getAsyncTimeout();
+		if (allowAsync && asyncTimeout > 0 && _asyncExecutor.isAsyncSupported(request)) {
+			final FencedResponseWrapper asyncResponse = new FencedResponseWrapper(response);
+			// ̳ʰ ûü  Ŀ ۾ ٸ û   ʵ ʿ  ؼ ѱ.
+			final HttpServletRequest asyncRequest = BatchRequestWrapper.detach(request, getServletContext(), asyncResponse);
+			_asyncExecutor.execute(request, asyncResponse, new Runnable() {
+				@Override
+				public void run() {
+					try {
+						executeAction(route, cacheKey, action, asyncRequest, asyncResponse);
+					} catch (Exception e) {
+						getLogger().error(e);
+						if (!asyncResponse.isCommitted()) {
+							try {
+								asyncResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+							} catch (IOException ioe) {
+							}
+						}
+					}
+				}
+			}, exit, asyncTimeout);
+			return true;
+		}
+		executeAction(route, cacheKey, action, request, response);
+		return false;
+	}
+
+	/*
+	 * ý  ó  ˻Ѵ. ó  429, ý   503  Retry-After  Բ .
+	 */
+	private boolean admit(ActionLimiter[] limiters, HttpServletResponse response) throws IOException {
+		for (int i = 0; i < limiters.length; i++) {
+			long retryAfter = limiters[i].tryRate();
+			if (retryAfter > 0) {
+				exit(limiters, i);
+				reject(response, _SC_TOO_MANY_REQUESTS, retryAfter, limiters[i]);
+				return false;
+			}
+			if (!limiters[i].tryEnter()) {
+				exit(limiters, i);
+				reject(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, 1, limiters[i]);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void exit(ActionLimiter[] limiters, int count) {
+		for (int i = 0; i < count; i++) {
+			limiters[i].exit();
+		}
+	}
+
+	private void reject(HttpServletResponse response, int status, long retryAfter, ActionLimiter limiter) throws IOException {
+		if (getLogger().isDebugEnabled()) {
+			getLogger().debug("û ѵǾϴ. " + limiter + " status : " + status);
+		}
+		response.setHeader("Retry-After", String.valueOf(retryAfter));
+		response.sendError(status);
+	}
+
+	/*
+	 * ε Ʈѷ ׼Ǹ޼ҵ尡  û óѴ. ܸ   α״ ǥθ .
+	 *  ĳø ϸ ĳÿ  ϰ,  ܿ Default Servlet ѱ.
+	 */
+	private void notFound(HttpServletRequest request, HttpServletResponse response, String reason) throws ServletException, IOException {
+		long count = _notFoundCount.incrementAndGet();
+		if (getLogger().isDebugEnabled()) {
+			getLogger().debug("ε  ûԴϴ. (" + reason + ") \"" + request.getMethod() + " " + request.getRequestURI() + "\"");
+		} else if (_notFoundLogSample > 0 && count % _notFoundLogSample == 1) {
+			getLogger().info("ε  ûԴϴ. (" + reason + ") \"" + request.getMethod() + " " + request.getRequestURI() + "\"  " + count + "");
+		}
+		if (request instanceof BatchRequestWrapper) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		if (_staticCache.isEnabled() && _staticCache.serve(getServletContext(), request, response)) {
+			return;
+		}
+		RequestDispatcher dispatcher = (RequestDispatcher) getServletContext().getAttribute("default-servlet-dispatcher");
+		if (dispatcher != null) {
+			dispatcher.forward(request, response);
+		} else {
+			response.sendError(404);
+			response.setContentType("text/plain;charset=utf-8");
+		}
+	}
+
+	private void executeAction(ActionRoute route, String cacheKey, Action action, HttpServletRequest request, HttpServletResponse response) throws Exception {
+		long startTime = System.nanoTime();
+		ResponseCaptureWrapper capture = cacheKey == null ? null : ResponseCache.capture(request, response);
+		HttpServletResponse actionResponse = capture == null ? response : capture;
+		ETagResponseWrapper etagResponse = null;
+		if ("HEAD".equals(request.getMethod()) || (route.isETag() && "GET".equals(request.getMethod()))) {
+			etagResponse = new ETagResponseWrapper(request, actionResponse, route.isETag());
+			actionResponse = etagResponse;
+		}
+		boolean collectSql = _stats.isSlowCaptureEnabled();
+		if (getLogger().isDebugEnabled()) {
+			getLogger().debug("ڡڡ " + request.getRemoteAddr() + "   \"" + request.getMethod() + " " + request.getRequestURI() + "\" û ۵Ǿϴ");
+			getLogger().debug("ContentLength : " + request.getContentLength() + "bytes");
+		}
+		if (collectSql) {
+			SQLCollector.begin();
+		}
+		long micros = 0;
 		try {
-			return ((String) bundle.getObject(actionKey)).trim();
-		} catch (MissingResourceException e) {
-			getLogger().error("error actionkey is " + actionKey);
-			getLogger().error(e.getMessage());
-			return null;
+			action.execute(this, request, actionResponse);
+		} finally {
+			micros = (System.nanoTime() - startTime) / 1000;
+			List<SQLCollector.Entry> sqls = collectSql ? SQLCollector.end() : null;
+			Method method = ActionMethods.forClass(action.getClass()).find(request.getParameter("action"));
+			_stats.record(route.getKey(), method == null ? null : method.getName(), request, micros, sqls);
+		}
+		if (etagResponse != null) {
+			etagResponse.finish();
+		}
+		if (capture != null) {
+			ResponseCache.put(cacheKey, capture, route.getCacheTtl());
+		}
+		if (getLogger().isDebugEnabled()) {
+			getLogger().debug("١١ " + request.getRemoteAddr() + "   \"" + request.getMethod() + " " + request.getRequestURI() + "\" û Ǿϴ | duration : " + (micros / 1000) + "ms\n");
 		}
 	}
 
@@ -0,0 +1,234 @@
+/**
+ * @(#)ActionStats.java
+ */
+package framework.action;
+
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+import framework.db.SQLCollector;
+
+/**
+ * ׼Ű  processXxx ޼ҵ庰 ð   û ϴ Ŭ̴.
+ * ð   ʴ ׷ ׻ ϵǸ, ؽð Ѵ û URI, Ķ,  SQL(йȣ  ŷ)
+ * ũⰡ ѵ ȯۿ ϰ warn  α׸ .   JMX ȸ  ִ.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.stats.slowThreshold :  û ؽð(ms), 0 ̸   (⺻ 3000)
+ * <br>
+ * action.stats.slowCapacity :   û  (⺻ 100)
+ */
+public class ActionStats implements ActionStatsMBean {
+	private static Log _logger = LogFactory.getLog(framework.action.ActionStats.class);
+	private static final String _METHOD_SEPARATOR = "#";
+	private static final String _MASK = "******";
+	private final ConcurrentMap<String, LatencyHistogram> _histograms = new ConcurrentHashMap<String, LatencyHistogram>();
+	private final AtomicReferenceArray<String> _slowRequests;
+	private final AtomicLong _slowSeq = new AtomicLong();
+	private volatile long _slowThreshold;
+	private ObjectName _objectName = null;
+
+	/**
+	 * config.properties   ü Ѵ.
+	 */
+	ActionStats() {
+		_slowThreshold = getConfig().getLong("action.stats.slowThreshold", 3000L);
+		_slowRequests = new AtomicReferenceArray<String>(Math.max(1, getConfig().getInt("action.stats.slowCapacity", 100)));
+	}
+
+	/**
+	 *  û  θ Ѵ. ϴ 쿡  SQL Ѵ.
+	 *
+	 * @return  û 
+	 */
+	boolean isSlowCaptureEnabled() {
+		return _slowThreshold > 0;
+	}
+
+	/**
+	 * û ð Ѵ. ؽð Ѵ   û Ѵ.
+	 *
+	 * @param actionKey ׼Ű
+	 * @param methodName  processXxx ޼ҵ
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param micros ð(ũ)
+	 * @param sqls û  SQL ,    null
+	 */
+	void record(String actionKey, String methodName, HttpServletRequest request, long micros, List<SQLCollector.Entry> sqls) {
+		_histogram(actionKey).record(micros);
+		if (methodName != null) {
+			_histogram(actionKey + _METHOD_SEPARATOR + methodName).record(micros);
+		}
+		long threshold = _slowThreshold;
+		if (threshold > 0 && micros >= threshold * 1000) {
+			String slowRequest = _formatSlowRequest(actionKey, methodName, request, micros, sqls);
+			_slowRequests.set((int) (_slowSeq.getAndIncrement() % _slowRequests.length()), slowRequest);
+			getLogger().warn(" û ߻Ͽϴ. " + slowRequest);
+		}
+	}
+
+	/**
+	 * ÷ MBeanServer Ѵ.
+	 *
+	 * @param name MBean ̸ (ؽƮ )
+	 */
+	void register(String name) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName("framework:type=ActionStats,name=" + ObjectName.quote(name));
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(this, objectName);
+			_objectName = objectName;
+		} catch (Exception e) {
+			getLogger().warn("ActionStats MBean  ߽ϴ.", e);
+		}
+	}
+
+	/**
+	 * ÷ MBeanServer  Ѵ.
+	 */
+	void unregister() {
+		if (_objectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(_objectName);
+		} catch (Exception e) {
+			getLogger().warn("ActionStats MBean  ߽ϴ.", e);
+		}
+		_objectName = null;
+	}
+
+	@Override
+	public String[] getSummary() {
+		Map<String, LatencyHistogram> sorted = new TreeMap<String, LatencyHistogram>(_histograms);
+		List<String> summary = new ArrayList<String>(sorted.size());
+		for (Map.Entry<String, LatencyHistogram> entry : sorted.entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			summary.add(String.format("%s count=%d mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms", entry.getKey(), Long.valueOf(histogram.getCount()), Double.valueOf(histogram.getMean()), Double.valueOf(histogram.getPercentile(50)), Double.valueOf(histogram.getPercentile(95)), Double.valueOf(histogram.getPercentile(99)), Double.valueOf(histogram.getMax())));
+		}
+		return summary.toArray(new String[summary.size()]);
+	}
+
+	@Override
+	public String[] getSlowRequests() {
+		long seq = _slowSeq.get();
+		int capacity = _slowRequests.length();
+		List<String> slowRequests = new ArrayList<String>();
+		for (long i = seq - 1; i >= 0 && i >= seq - capacity; i--) {
+			String slowRequest = _slowRequests.get((int) (i % capacity));
+			if (slowRequest != null) {
+				slowRequests.add(slowRequest);
+			}
+		}
+		return slowRequests.toArray(new String[slowRequests.size()]);
+	}
+
+	@Override
+	public double getPercentile(String key, double percentile) {
+		LatencyHistogram histogram = _histograms.get(key);
+		if (histogram == null) {
+			return -1;
+		}
+		return histogram.getPercentile(percentile);
+	}
+
+	@Override
+	public long getSlowThreshold() {
+		return _slowThreshold;
+	}
+
+	@Override
+	public void setSlowThreshold(long slowThreshold) {
+		_slowThreshold = slowThreshold;
+	}
+
+	@Override
+	public void reset() {
+		_histograms.clear();
+		for (int i = 0; i < _slowRequests.length(); i++) {
+			_slowRequests.set(i, null);
+		}
+		_slowSeq.set(0);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private LatencyHistogram _histogram(String key) {
+		LatencyHistogram histogram = _histograms.get(key);
+		if (histogram == null) {
+			histogram = new LatencyHistogram();
+			LatencyHistogram prev = _histograms.putIfAbsent(key, histogram);
+			if (prev != null) {
+				histogram = prev;
+			}
+		}
+		return histogram;
+	}
+
+	/**
+	 *  û ڿ . йȣ Ķʹ ŷѴ.
+	 */
+	private String _formatSlowRequest(String actionKey, String methodName, HttpServletRequest request, long micros, List<SQLCollector.Entry> sqls) {
+		StringBuilder buf = new StringBuilder();
+		buf.append("[" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date()) + "] ");
+		buf.append(actionKey);
+		if (methodName != null) {
+			buf.append(_METHOD_SEPARATOR + methodName);
+		}
+		buf.append(" duration : " + (micros / 1000) + "ms | " + request.getMethod() + " " + request.getRequestURI());
+		buf.append(" | params : { ");
+		int count = 0;
+		try {
+			Box input = Box.getBox(request);
+			for (String key : input.keySet()) {
+				if (count++ > 0) {
+					buf.append(", ");
+				}
+				String lowerKey = key.toLowerCase();
+				if (lowerKey.indexOf("passw") > -1 || lowerKey.indexOf("pwd") > -1) {
+					buf.append(key + "=" + _MASK);
+				} else {
+					buf.append(key + "=" + input.getRawString(key));
+				}
+			}
+		} catch (Exception e) {
+			//   ûü Ķ͸    ִ.
+		}
+		buf.append(" }");
+		if (sqls != null && !sqls.isEmpty()) {
+			buf.append(" | sql(" + sqls.size() + ") : ");
+			for (SQLCollector.Entry sql : sqls) {
+				buf.append("\n" + sql);
+			}
+		}
+		return buf.toString();
+	}
+
+	private Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private Log getLogger() {
+		return ActionStats._logger;
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * @(#)ActionStatsMBean.java
+ */
+package framework.action;
+
+/**
+ * Action 踦 JMX ȸϱ  MBean ̴̽.
+ */
+public interface ActionStatsMBean {
+
+	/**
+	 * ׼Ű  processXxx ޼ҵ庰 Ǽ, , p50, p95, p99, ִ ð Ѵ.
+	 *
+	 * @return ׼Ǻ  ڿ 迭
+	 */
+	public String[] getSummary();
+
+	/**
+	 *  û  û(URI, Ķ,  SQL) ֱ  Ѵ.
+	 *
+	 * @return  û ڿ 迭
+	 */
+	public String[] getSlowRequests();
+
+	/**
+	 * ׼Ű(Ǵ ׼Ű#޼ҵ)  ð Ѵ.
+	 *
+	 * @param key ׼Ű Ǵ ׼Ű#޼ҵ
+	 * @param percentile  (: 99.0)
+	 * @return ð(и), 谡  -1
+	 */
+	public double getPercentile(String key, double percentile);
+
+	/**
+	 *  û ؽð Ѵ.
+	 *
+	 * @return ؽð(и), 0 ̸  
+	 */
+	public long getSlowThreshold();
+
+	/**
+	 *  û ؽð Ѵ.
+	 *
+	 * @param slowThreshold ؽð(и), 0 ̸  
+	 */
+	public void setSlowThreshold(long slowThreshold);
+
+	/**
+	 *    û ʱȭѴ.
+	 */
+	public void reset();
+}
@@ -0,0 +1,323 @@
+/**
+ * @(#)AsyncActionExecutor.java
+ */
+package framework.action;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+
+/**
+ * Action Servlet 3.0 񵿱(AsyncContext)  ϴ Ŭ̴.
+ * ̳  û ѱ  ȯǰ, Action ӿũ ϴ ũⰡ ѵ Ǯ ȴ.
+ * ӿũ Servlet 2.5 API ϵǹǷ 񵿱  ޼ҵ ÷ ȣϸ,
+ * ̳ʰ 񵿱⸦   (web.xml async-supported ̼ ) ó  ȴ.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.async.poolSize : Ǯ ũ (⺻ 20)
+ * <br>
+ * action.async.queueSize : ⿭ ũ, ʰ 503  (⺻ 100)
+ * <br>
+ * action.async./׼Ű : ش ׼Ű 񵿱 ϸ  ŸӾƿ(ms)
+ * <br>
+ * action.async.timeout : ϸ  Action 񵿱 ϸ  ⺻ ŸӾƿ(ms)
+ * <br>
+ * action.async.virtualThread : true ̸ Java 21 ̻󿡼 Action 󾲷(virtual thread)  (⺻ false)
+ * <br>
+ * action.async.maxConcurrency : 󾲷    ִ , ʰ 503  (⺻ 10000)
+ */
+final class AsyncActionExecutor {
+	private static Log _logger = LogFactory.getLog(framework.action.AsyncActionExecutor.class);
+	private static final String _ASYNC_LISTENER_CLASS = "javax.servlet.AsyncListener";
+	private static Method _startAsync = null;
+	private static Method _isAsyncSupported = null;
+	private static Method _setTimeout = null;
+	private static Method _complete = null;
+	private static Method _addListener = null;
+	private static Class<?> _listenerClass = null;
+	private final ExecutorService _executor;
+	private final Semaphore _permits;
+
+	static {
+		try {
+			_startAsync = ServletRequest.class.getMethod("startAsync", ServletRequest.class, ServletResponse.class);
+			_isAsyncSupported = ServletRequest.class.getMethod("isAsyncSupported");
+			Class<?> contextClass = _startAsync.getReturnType();
+			_setTimeout = contextClass.getMethod("setTimeout", long.class);
+			_complete = contextClass.getMethod("complete");
+			_listenerClass = Class.forName(_ASYNC_LISTENER_CLASS, false, ServletRequest.class.getClassLoader());
+			_addListener = contextClass.getMethod("addListener", _listenerClass);
+		} catch (Throwable e) {
+			_startAsync = null;
+		}
+	}
+
+	/**
+	 * config.properties  Ǯ Ѵ.
+	 */
+	AsyncActionExecutor() {
+		ExecutorService virtualExecutor = null;
+		if (getConfig().getBoolean("action.async.virtualThread", false)) {
+			virtualExecutor = _newVirtualThreadExecutor();
+			if (virtualExecutor == null) {
+				getLogger().warn("󾲷带  ʴ JVM Դϴ. Ǯ մϴ.");
+			}
+		}
+		if (virtualExecutor != null) {
+			_executor = virtualExecutor;
+			_permits = new Semaphore(Math.max(1, getConfig().getInt("action.async.maxConcurrency", 10000)));
+			getLogger().info("񵿱 Action 󾲷 մϴ.");
+			return;
+		}
+		_permits = null;
+		int poolSize = Math.max(1, getConfig().getInt("action.async.poolSize", 20));
+		int queueSize = Math.max(1, getConfig().getInt("action.async.queueSize", 100));
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactory() {
+			private final AtomicInteger _seq = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "framework-async-" + _seq.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.allowCoreThreadTimeOut(true);
+		_executor = executor;
+	}
+
+	/**
+	 * û 񵿱 ó  ִ θ Ѵ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @return 񵿱 ó ɿ
+	 */
+	boolean isAsyncSupported(ServletRequest request) {
+		if (_startAsync == null) {
+			return false;
+		}
+		try {
+			return ((Boolean) _isAsyncSupported.invoke(request)).booleanValue();
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 񵿱 带 ϰ ۾ Ǯ Ѵ.
+	 * ⿭    503 , ŸӾƿ ߻  ۾ ߴ(interrupt)ϰ 503  .
+	 * Ŭ̾Ʈ    ̳ʰ 񵿱 û   (onError, onComplete) ۾ ߴѴ.
+	 * ۾ response  BatchRequestWrapper.detach()   ûü ؾ ϸ, ߴ Ŀ  Ǵ ۾  response.fence()   .
+	 * cleanup  ۾  , Ǵ ۾ źεǰų   ҵ  Ȯ ѹ ȴ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response ۾ ѱ HTTP Ŭ̾Ʈ 䰴ü
+	 * @param task  ۾
+	 * @param cleanup ۾ ࿩ο    ۾,  null
+	 * @param timeout ŸӾƿ(ms)
+	 * @throws Exception 񵿱 带   
+	 */
+	void execute(ServletRequest request, final FencedResponseWrapper response, final Runnable task, final Runnable cleanup, long timeout) throws Exception {
+		final ServletResponse containerResponse = response.getResponse();
+		final Object asyncContext = _startAsync.invoke(request, request, containerResponse);
+		_setTimeout.invoke(asyncContext, Long.valueOf(timeout));
+		final AtomicBoolean done = new AtomicBoolean(false);
+		final AtomicBoolean started = new AtomicBoolean(false);
+		final AtomicReference<Future<?>> future = new AtomicReference<Future<?>>();
+		// ۾ ѱ  ʸ ؾ ۾   ߻ ŸӾƿ̳  Ḧ ġ ʴ´.
+		Object listener = Proxy.newProxyInstance(_listenerClass.getClassLoader(), new Class<?>[] { _listenerClass }, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				String name = method.getName();
+				if ("onTimeout".equals(name) || "onError".equals(name) || "onComplete".equals(name)) {
+					if (!done.compareAndSet(false, true)) {
+						return null;
+					}
+					// ۾ ߴ(interrupt)  ʰ  Ǵ  û, 䰴ü  ϵ ´.
+					response.fence();
+					Future<?> submitted = future.get();
+					if (submitted != null) {
+						submitted.cancel(true);
+					}
+					if (started.compareAndSet(false, true)) {
+						//   ҵ ۾ finally   Ƿ ⼭ ݳѴ.
+						release(cleanup);
+					}
+					if ("onTimeout".equals(name)) {
+						getLogger().warn("񵿱 Action ð ʰϿϴ.");
+						sendError(containerResponse, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+						complete(asyncContext);
+					} else if ("onError".equals(name)) {
+						getLogger().warn("񵿱 Action  û  Ǿϴ.");
+						complete(asyncContext);
+					}
+				} else if ("hashCode".equals(name)) {
+					return Integer.valueOf(System.identityHashCode(proxy));
+				} else if ("equals".equals(name)) {
+					return Boolean.valueOf(proxy == args[0]);
+				} else if ("toString".equals(name)) {
+					return "AsyncActionListener";
+				}
+				return null;
+			}
+		});
+		_addListener.invoke(asyncContext, listener);
+		boolean acquired = false;
+		try {
+			if (_permits != null) {
+				if (!_permits.tryAcquire()) {
+					throw new RejectedExecutionException();
+				}
+				acquired = true;
+			}
+			future.set(_executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					if (!started.compareAndSet(false, true)) {
+						return;
+					}
+					try {
+						task.run();
+					} finally {
+						release(cleanup);
+						if (done.compareAndSet(false, true) && !response.isFenced()) {
+							complete(asyncContext);
+						}
+					}
+				}
+			}));
+		} catch (RejectedExecutionException e) {
+			getLogger().warn("񵿱  ⿭  áϴ.");
+			if (acquired) {
+				_permits.release();
+			}
+			if (done.compareAndSet(false, true)) {
+				run(cleanup);
+				sendError(containerResponse, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				complete(asyncContext);
+			}
+			return;
+		}
+		if (done.get()) {
+			// ۾ ѱ ̿ ʰ  
+			future.get().cancel(true);
+		}
+	}
+
+	/**
+	 *  ٽ   Ǯ ũ⸦ Ѵ. ⿭ ũ 󾲷  ؾ ȴ.
+	 */
+	void reconfigure() {
+		if (_executor instanceof ThreadPoolExecutor) {
+			_resize((ThreadPoolExecutor) _executor, Math.max(1, getConfig().getInt("action.async.poolSize", 20)));
+		}
+	}
+
+	/**
+	 * Ǯ Ѵ.
+	 */
+	void shutdown() {
+		_executor.shutdownNow();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * Ǯ ũ⸦ ٲ۴. ּ ũⰡ ִ ũ⺸ Ŀ ʵ  .
+	 */
+	private void _resize(ThreadPoolExecutor executor, int poolSize) {
+		if (executor.getMaximumPoolSize() == poolSize) {
+			return;
+		}
+		if (poolSize > executor.getMaximumPoolSize()) {
+			executor.setMaximumPoolSize(poolSize);
+			executor.setCorePoolSize(poolSize);
+		} else {
+			executor.setCorePoolSize(poolSize);
+			executor.setMaximumPoolSize(poolSize);
+		}
+		getLogger().info("Ǯ ũ⸦ Ͽϴ. (" + poolSize + ")");
+	}
+
+	/**
+	 * Java 21 ̻ 󾲷 Executor Ѵ.  ʴ JVM null Ѵ.
+	 */
+	private static ExecutorService _newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * ۾  ý 뷮 ݳϰ cleanup  Ѵ.
+	 */
+	private void release(Runnable cleanup) {
+		if (_permits != null) {
+			_permits.release();
+		}
+		run(cleanup);
+	}
+
+	private void run(Runnable cleanup) {
+		if (cleanup == null) {
+			return;
+		}
+		try {
+			cleanup.run();
+		} catch (Exception e) {
+			getLogger().error("cleanup error!", e);
+		}
+	}
+
+	private void complete(Object asyncContext) {
+		try {
+			_complete.invoke(asyncContext);
+		} catch (Exception e) {
+			getLogger().error("AsyncContext complete error!", e);
+		}
+	}
+
+	private void sendError(ServletResponse response, int status) {
+		HttpServletResponse res = (HttpServletResponse) response;
+		if (res.isCommitted()) {
+			return;
+		}
+		try {
+			res.setHeader("Retry-After", "1");
+			res.sendError(status);
+		} catch (Exception e) {
+			getLogger().error("sendError error!", e);
+		}
+	}
+
+	private Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private Log getLogger() {
+		return AsyncActionExecutor._logger;
+	}
+}
@@ -0,0 +1,510 @@
+/**
+ * @(#)BatchExecutor.java
+ */
+package framework.action;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestWrapper;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+import framework.db.ConnectionManager;
+import framework.util.JsonUtil;
+
+/**
+ *   ׼ ѹ HTTP û ϴ ϰû ó̴.
+ * ȭ ε    û   ϳ û  ,  ׸   ϳ JSON 迭  Ѵ.
+ * <br>
+ * û (requests Ķ Ǵ application/json )
+ * <br>
+ * [{"id":"list", "key":"/board", "action":"list", "params":{"page":"1"}}, ...] Ǵ {"parallel":true, "requests":[...]}
+ * <br>
+ * 
+ * <br>
+ * [{"id":"list", "status":200, "contentType":"application/json", "body":...}, ...]
+ * <br>
+ * ׸ Ķ  ϰû   ûü(XSSFilter )    ϸ, action.batch.allow  ϵ ׼Ű Ѵ.
+ * <br>
+ * (⺻)  ׸ RequestDispatcher.include  ϹǷ INCLUDE  ε Ͱ ׸񸶴 ȴ.
+ * ׸   DB  , ׸   Ŀ  ۾ ѹϹǷ ٸ ׸ ۾  Ŀ ʴ´.
+ * Ľ  ׸񸶴 ڸ  ϸ  Ǯ Ѵ.  ׸    ۵ȴ.
+ * Ľ ׸ û 忡   û ϸ, ŸӾƿ   ûü 䰴ü   ȣ Ѵ.
+ * Ű ׸   û 忡 ߰ϹǷ  ۵Ǳ  Ŀ  ׸ Ű  ʴ´.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.batch.key : ϰû ׼Ű,     (: /batch)
+ * <br>
+ * action.batch.allow : ϰû   ִ ׼Ű , ޸  (: /board,/notice)
+ * ׸ URL ο ε (/admin/*  Ѱ˻ ) ġ Ƿ(Ľ  ,  INCLUDE  ε  ),
+ *   ص  ׼Ű ϳ ؾ ϸ *  ü   ʴ´.
+ * <br>
+ * action.batch.maxSize : ϰû   ִ ִ ׸  (⺻ 20)
+ * <br>
+ * action.batch.poolSize : Ľ   (⺻ CPU  * 2)
+ * <br>
+ * action.batch.timeout : Ľ ׸ ŸӾƿ(ms) (⺻ 30000)
+ */
+final class BatchExecutor {
+	private static Log _logger = LogFactory.getLog(framework.action.BatchExecutor.class);
+	private final ActionServlet _servlet;
+	private final String _key;
+	private volatile int _maxSize;
+	private volatile long _timeout;
+	private volatile Set<String> _allow;
+	private ThreadPoolExecutor _executor = null;
+
+	/**
+	 * config.properties  ϰû ó⸦ Ѵ.
+	 *
+	 * @param servlet ׸  
+	 */
+	BatchExecutor(ActionServlet servlet) {
+		this._servlet = servlet;
+		this._key = getConfig().getString("action.batch.key", null);
+		reconfigure();
+	}
+
+	/**
+	 *  ٽ    ׼Ű, ִ ׸ , ŸӾƿ, Ǯ ũ⸦ Ѵ.
+	 * Ǯ ⿭ ũ ó    Ѵ.
+	 */
+	synchronized void reconfigure() {
+		this._maxSize = getConfig().getInt("action.batch.maxSize", 20);
+		this._timeout = getConfig().getLong("action.batch.timeout", 30000);
+		Set<String> allow = new HashSet<String>();
+		for (String key : getConfig().getString("action.batch.allow", "").split(",")) {
+			key = key.trim();
+			if (key.length() == 0) {
+				continue;
+			}
+			if (key.indexOf('*') != -1) {
+				getLogger().warn("action.batch.allow  ׼Ű ϳ ؾ մϴ. մϴ. (" + key + ")");
+				continue;
+			}
+			allow.add(key);
+		}
+		this._allow = allow;
+		if (_executor != null) {
+			_resize(_executor, _poolSize());
+		}
+	}
+
+	/**
+	 * ׼Ű ϰû ׼Ű θ Ѵ.
+	 *
+	 * @param actionKey ׼Ű
+	 * @return ϰû 
+	 */
+	boolean isBatch(String actionKey) {
+		return _key != null && _key.equals(actionKey);
+	}
+
+	/**
+	 * ϰû Ͽ  JSON 迭 Ѵ.
+	 * û ߸Ǿų ִ ׸   400  ,   ׼Ű ׸ 403 · Ѵ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @throws IOException    ߻ 
+	 */
+	void execute(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		List<BatchRequestWrapper> items = new ArrayList<BatchRequestWrapper>();
+		List<String> ids = new ArrayList<String>();
+		boolean parallel;
+		try {
+			parallel = _parse(request, items, ids);
+		} catch (IllegalArgumentException e) {
+			if (getLogger().isDebugEnabled()) {
+				getLogger().debug("߸ ϰûԴϴ. " + e.getMessage());
+			}
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+			return;
+		}
+		response.setContentType("application/json; charset=utf-8");
+		PrintWriter out = response.getWriter();
+		out.print("[");
+		if (parallel && items.size() > 1) {
+			_executeParallel(items, ids, response, out);
+		} else {
+			_executeSequential(request, items, ids, response, out);
+		}
+		out.print("]");
+		out.flush();
+	}
+
+	/**
+	 * Ľ Ǯ Ѵ.
+	 */
+	synchronized void shutdown() {
+		if (_executor != null) {
+			_executor.shutdownNow();
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ׸ û 忡 ʷ Ѵ.   ڸ ϸ, ׸   Ŀ  ۾ ѹѴ.
+	 */
+	private void _executeSequential(HttpServletRequest request, List<BatchRequestWrapper> items, List<String> ids, HttpServletResponse response, PrintWriter out) throws IOException {
+		Map<String, ConnectionManager> connMgrMap = new HashMap<String, ConnectionManager>();
+		try {
+			for (int i = 0; i < items.size(); i++) {
+				BatchRequestWrapper item = items.get(i);
+				BatchResponseWrapper itemResponse;
+				if (item == null) {
+					itemResponse = _error(response, HttpServletResponse.SC_FORBIDDEN);
+				} else {
+					item.setAttribute(Action.SHARED_CONNECTIONS, connMgrMap);
+					itemResponse = _include(request, item, new BatchResponseWrapper(response));
+					for (ConnectionManager connMgr : connMgrMap.values()) {
+						connMgr.rollback();
+					}
+				}
+				_addCookies(response, itemResponse);
+				_write(out, i, ids.get(i), itemResponse);
+			}
+		} finally {
+			for (ConnectionManager connMgr : connMgrMap.values()) {
+				connMgr.release();
+			}
+		}
+	}
+
+	/**
+	 * ׸ Ǯ ÿ ϰ,   û    Ѵ.
+	 * ׸ û 忡  û ϸ, ŸӾƿ  ׸ fence()   ûü 䰴ü  ȣ   Ѵ.
+	 */
+	private void _executeParallel(List<BatchRequestWrapper> items, List<String> ids, HttpServletResponse response, PrintWriter out) throws IOException {
+		List<Future<BatchResponseWrapper>> futures = new ArrayList<Future<BatchResponseWrapper>>(items.size());
+		List<FencedResponseWrapper> fences = new ArrayList<FencedResponseWrapper>(items.size());
+		for (final BatchRequestWrapper item : items) {
+			if (item == null) {
+				futures.add(null);
+				fences.add(null);
+				continue;
+			}
+			FencedResponseWrapper fence = new FencedResponseWrapper(response);
+			item.detach(_servlet.getServletContext(), fence);
+			final BatchResponseWrapper itemResponse = new BatchResponseWrapper(fence);
+			try {
+				futures.add(_getExecutor().submit(new Callable<BatchResponseWrapper>() {
+					@Override
+					public BatchResponseWrapper call() {
+						return _run(item, itemResponse);
+					}
+				}));
+			} catch (RejectedExecutionException e) {
+				futures.add(null);
+			}
+			fences.add(fence);
+		}
+		long deadline = System.currentTimeMillis() + _timeout;
+		for (int i = 0; i < futures.size(); i++) {
+			Future<BatchResponseWrapper> future = futures.get(i);
+			BatchResponseWrapper itemResponse = null;
+			if (future == null) {
+				itemResponse = _error(response, items.get(i) == null ? HttpServletResponse.SC_FORBIDDEN : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			} else {
+				try {
+					itemResponse = future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					fences.get(i).fence();
+					future.cancel(true);
+					itemResponse = _error(response, HttpServletResponse.SC_GATEWAY_TIMEOUT);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					fences.get(i).fence();
+					future.cancel(true);
+					itemResponse = _error(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				} catch (ExecutionException e) {
+					itemResponse = _error(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+				}
+			}
+			_addCookies(response, itemResponse);
+			_write(out, i, ids.get(i), itemResponse);
+		}
+	}
+
+	/**
+	 * ׸ RequestDispatcher.include  Ͽ INCLUDE  ε ͸ ġ Ѵ.
+	 */
+	private BatchResponseWrapper _include(HttpServletRequest request, BatchRequestWrapper item, BatchResponseWrapper itemResponse) {
+		RequestDispatcher dispatcher = request.getRequestDispatcher(item.getServletPath());
+		if (dispatcher == null) {
+			itemResponse.setStatus(HttpServletResponse.SC_NOT_FOUND);
+			return itemResponse;
+		}
+		try {
+			dispatcher.include(item, itemResponse);
+		} catch (Throwable e) {
+			getLogger().error("ϰû ׸    ߻Ͽϴ. (" + item.getServletPath() + ")", e);
+			itemResponse.reset();
+			itemResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		}
+		return itemResponse;
+	}
+
+	private BatchResponseWrapper _run(BatchRequestWrapper item, BatchResponseWrapper itemResponse) {
+		try {
+			_servlet.processBatchItem(item, itemResponse);
+		} catch (Throwable e) {
+			getLogger().error("ϰû ׸    ߻Ͽϴ. (" + item.getServletPath() + ")", e);
+			itemResponse.reset();
+			itemResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		}
+		return itemResponse;
+	}
+
+	private BatchResponseWrapper _error(HttpServletResponse response, int status) {
+		BatchResponseWrapper itemResponse = new BatchResponseWrapper(response);
+		itemResponse.setStatus(status);
+		return itemResponse;
+	}
+
+	/**
+	 * ׸ ߰ Ű  信 ߰Ѵ.  ̹ ۵Ǳ  ߰  Ƿ .
+	 */
+	private void _addCookies(HttpServletResponse response, BatchResponseWrapper itemResponse) {
+		for (Cookie cookie : itemResponse.getItemCookies()) {
+			if (response.isCommitted()) {
+				getLogger().warn(" ̹ ۵Ǿ ϰû ׸ Ű ߰ ߽ϴ. (" + cookie.getName() + ")");
+				continue;
+			}
+			response.addCookie(cookie);
+		}
+	}
+
+	/**
+	 * ׸  JSON ü Ѵ. JSON   ״ ϰ  ܿ ڿ Ѵ.
+	 */
+	private void _write(PrintWriter out, int index, String id, BatchResponseWrapper itemResponse) throws IOException {
+		if (index > 0) {
+			out.print(",");
+		}
+		String contentType = itemResponse.getContentType();
+		String body = itemResponse.getBody();
+		out.print("{\"id\":" + JsonUtil.stringify(id) + ",\"status\":" + itemResponse.getItemStatus());
+		if (contentType != null) {
+			out.print(",\"contentType\":" + JsonUtil.stringify(contentType));
+		}
+		if (itemResponse.getLocation() != null) {
+			out.print(",\"location\":" + JsonUtil.stringify(itemResponse.getLocation()));
+		}
+		out.print(",\"body\":");
+		if (contentType != null && contentType.toLowerCase().indexOf("json") > -1 && body.trim().length() > 0) {
+			out.print(body);
+		} else {
+			out.print(JsonUtil.stringify(body));
+		}
+		out.print("}");
+		out.flush();
+	}
+
+	/**
+	 * ϰû ؼϿ ׸ ûü .
+	 *
+	 * @return Ľ 
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean _parse(HttpServletRequest request, List<BatchRequestWrapper> items, List<String> ids) throws IOException {
+		String json = request.getParameter("requests");
+		if (json == null) {
+			String contentType = request.getContentType();
+			if (contentType == null || contentType.toLowerCase().indexOf("json") == -1) {
+				throw new IllegalArgumentException("requests ĶͰ ϴ.");
+			}
+			json = _readBody(request);
+		}
+		Object parsed;
+		try {
+			parsed = JsonUtil.parse(json);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("JSON  ƴմϴ.");
+		}
+		boolean parallel = "true".equals(request.getParameter("parallel"));
+		if (parsed instanceof Map) {
+			Map<String, Object> map = (Map<String, Object>) parsed;
+			parallel = parallel || Boolean.TRUE.equals(map.get("parallel"));
+			parsed = map.get("requests");
+		}
+		if (!(parsed instanceof List)) {
+			throw new IllegalArgumentException("û  ϴ.");
+		}
+		List<Object> list = (List<Object>) parsed;
+		if (list.size() > _maxSize) {
+			throw new IllegalArgumentException("ִ ׸ (" + _maxSize + ") Ѿϴ.");
+		}
+		String extension = _getExtension(request.getServletPath());
+		for (int i = 0; i < list.size(); i++) {
+			if (!(list.get(i) instanceof Map)) {
+				throw new IllegalArgumentException("߸ ׸Դϴ. (" + i + ")");
+			}
+			Map<String, Object> entry = (Map<String, Object>) list.get(i);
+			Object key = entry.get("key");
+			if (!(key instanceof String) || isBatch((String) key)) {
+				throw new IllegalArgumentException("߸ ׼ŰԴϴ. (" + i + ")");
+			}
+			Map<String, String[]> params = new LinkedHashMap<String, String[]>();
+			if (entry.get("params") instanceof Map) {
+				for (Map.Entry<String, Object> param : ((Map<String, Object>) entry.get("params")).entrySet()) {
+					params.put(param.getKey(), _toValues(param.getValue()));
+				}
+			}
+			if (entry.get("action") != null) {
+				params.put("action", new String[] { entry.get("action").toString() });
+			}
+			Set<String> allow = _allow;
+			if (allow.contains(key)) {
+				items.add(new BatchRequestWrapper(request, key + extension, _filterParams(request, params)));
+			} else {
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("ϰû   ׼ŰԴϴ. (" + key + ")");
+				}
+				items.add(null);
+			}
+			ids.add(entry.get("id") == null ? String.valueOf(i) : entry.get("id").toString());
+		}
+		return parallel;
+	}
+
+	/**
+	 * ׸ Ķ  ϰû   ûü(XSSFilter )    ٲ۴.
+	 * Ͱ  ûü    ü  ׸ Ķ͸ е ٲپٰ ǵǷ û 忡 ȣؾ Ѵ.
+	 */
+	private Map<String, String[]> _filterParams(HttpServletRequest request, Map<String, String[]> params) {
+		ServletRequestWrapper innermost = null;
+		for (ServletRequest current = request; current instanceof ServletRequestWrapper; current = ((ServletRequestWrapper) current).getRequest()) {
+			innermost = (ServletRequestWrapper) current;
+		}
+		if (innermost == null || params.isEmpty()) {
+			return params;
+		}
+		ServletRequest original = innermost.getRequest();
+		Map<String, String[]> filtered = new LinkedHashMap<String, String[]>();
+		innermost.setRequest(new BatchRequestWrapper((HttpServletRequest) original, request.getServletPath(), params));
+		try {
+			for (String name : params.keySet()) {
+				String[] values = request.getParameterValues(name);
+				if (values != null) {
+					filtered.put(name, values);
+				}
+			}
+		} finally {
+			innermost.setRequest(original);
+		}
+		return filtered;
+	}
+
+	private String[] _toValues(Object value) {
+		if (value == null) {
+			return new String[] { "" };
+		}
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			String[] values = new String[list.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = list.get(i) == null ? "" : list.get(i).toString();
+			}
+			return values;
+		}
+		return new String[] { value.toString() };
+	}
+
+	private String _readBody(HttpServletRequest request) throws IOException {
+		StringBuilder buffer = new StringBuilder();
+		BufferedReader reader = request.getReader();
+		char[] chars = new char[4096];
+		int read;
+		while ((read = reader.read(chars)) != -1) {
+			buffer.append(chars, 0, read);
+		}
+		return buffer.toString();
+	}
+
+	private String _getExtension(String servletPath) {
+		int slash = servletPath.lastIndexOf("/");
+		int period = servletPath.lastIndexOf(".");
+		if (period > 0 && period > slash) {
+			return servletPath.substring(period);
+		}
+		return "";
+	}
+
+	/**
+	 * Ľ Ǯ ó   Ѵ.
+	 */
+	private synchronized ThreadPoolExecutor _getExecutor() {
+		if (_executor == null) {
+			int poolSize = _poolSize();
+			_executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(poolSize * _maxSize), new ThreadFactory() {
+				private final AtomicInteger _seq = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "framework-batch-" + _seq.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			_executor.allowCoreThreadTimeOut(true);
+		}
+		return _executor;
+	}
+
+	/**
+	 * Ǯ ũ⸦ ٲ۴. ּ ũⰡ ִ ũ⺸ Ŀ ʵ  .
+	 */
+	private void _resize(ThreadPoolExecutor executor, int poolSize) {
+		if (executor.getMaximumPoolSize() == poolSize) {
+			return;
+		}
+		if (poolSize > executor.getMaximumPoolSize()) {
+			executor.setMaximumPoolSize(poolSize);
+			executor.setCorePoolSize(poolSize);
+		} else {
+			executor.setCorePoolSize(poolSize);
+			executor.setMaximumPoolSize(poolSize);
+		}
+		getLogger().info("Ǯ ũ⸦ Ͽϴ. (" + poolSize + ")");
+	}
+
+	private int _poolSize() {
+		return Math.max(1, getConfig().getInt("action.batch.poolSize", Runtime.getRuntime().availableProcessors() * 2));
+	}
+
+	private Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private Log getLogger() {
+		return BatchExecutor._logger;
+	}
+}
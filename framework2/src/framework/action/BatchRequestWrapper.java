@@ -0,0 +1,692 @@
+/**
+ * @(#)BatchRequestWrapper.java
+ */
+package framework.action;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.security.Principal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpSession;
+
+/**
+ * ϰû Ե  û Ÿ ûü̴.
+ * ׼Ű Ķʹ ϰû ׸񿡼 , ûӼ ׸񺰷  Ͽ ķ Ǵ ٸ ׸  ʴ´.
+ *   (, , Ű )  ûü  ״ Ѵ.
+ * Ľ ׸ detach()  ʿ  û 忡 ̸  θ, Ŀ Ǯ  ûü  ʴ´.
+ * 񵿱 ϴ Action  detach(request, context, fence)   ûü ϸ,   ο Ķʹ  û  ϰ
+ * û fence     ûü д´.
+ */
+final class BatchRequestWrapper extends HttpServletRequestWrapper {
+	private static final String[] _DATE_FORMATS = new String[] { "EEE, dd MMM yyyy HH:mm:ss zzz", "EEEEEE, dd-MMM-yy HH:mm:ss zzz", "EEE MMMM d HH:mm:ss yyyy" };
+	private final String _servletPath;
+	private final String _pathInfo;
+	private final String _queryString;
+	private final String _requestURI;
+	private final boolean _readBody;
+	private final Map<String, String[]> _params;
+	private final Map<String, Object> _attributes = new HashMap<String, Object>();
+	private final Set<String> _removed = new HashSet<String>();
+	private Snapshot _snapshot = null;
+
+	/**
+	 * BatchRequestWrapper 
+	 *
+	 * @param request ϰû HTTP Ŭ̾Ʈ ûü
+	 * @param servletPath ׸   (׼Ű + Ȯ)
+	 * @param params ׸ ûĶ
+	 */
+	BatchRequestWrapper(HttpServletRequest request, String servletPath, Map<String, String[]> params) {
+		this(request, servletPath, null, null, null, params, false);
+	}
+
+	private BatchRequestWrapper(HttpServletRequest request, String servletPath, String pathInfo, String queryString, String requestURI, Map<String, String[]> params, boolean readBody) {
+		super(request);
+		this._servletPath = servletPath;
+		this._pathInfo = pathInfo;
+		this._queryString = queryString;
+		this._requestURI = requestURI;
+		this._readBody = readBody;
+		this._params = Collections.unmodifiableMap(params);
+	}
+
+	/**
+	 * ٸ 忡 Ǵ Action  ѱ ûü . û 忡 ȣؾ Ѵ.
+	 * , Ķ, , Ű, ûӼ  ϹǷ ̳ʰ  ûü  Ŀ ٸ û   ʴ´.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param context  ؽƮ
+	 * @param fence Action  ѱ 䰴ü, fence()  ȣǸ  ûü ȣ⵵ Բ Ѵ.
+	 * @return  ûü
+	 */
+	@SuppressWarnings("unchecked")
+	static BatchRequestWrapper detach(HttpServletRequest request, ServletContext context, FencedResponseWrapper fence) {
+		Map<String, String[]> params = new HashMap<String, String[]>();
+		for (Map.Entry<String, String[]> entry : ((Map<String, String[]>) request.getParameterMap()).entrySet()) {
+			params.put(entry.getKey(), entry.getValue().clone());
+		}
+		BatchRequestWrapper wrapper = new BatchRequestWrapper(request, request.getServletPath(), request.getPathInfo(), request.getQueryString(), request.getRequestURI(), params, true);
+		wrapper.detach(context, fence);
+		return wrapper;
+	}
+
+	/**
+	 * Ľ   ûü (, Ű, ûӼ,  ) Ѵ. û 忡 ȣؾ Ѵ.
+	 * Ŀ   ϸ,    ȣ(isUserInRole,   ) fence     ûü Ѵ.
+	 *
+	 * @param context  ؽƮ
+	 * @param fence ׸ 䰴ü, fence()  ȣǸ  ûü ȣ⵵ Բ Ѵ.
+	 */
+	void detach(ServletContext context, FencedResponseWrapper fence) {
+		for (Enumeration<?> e = super.getAttributeNames(); e.hasMoreElements();) {
+			String name = (String) e.nextElement();
+			if (!_attributes.containsKey(name) && !_removed.contains(name)) {
+				_attributes.put(name, super.getAttribute(name));
+			}
+		}
+		this._snapshot = new Snapshot((HttpServletRequest) getRequest(), context, fence);
+	}
+
+	@Override
+	public String getServletPath() {
+		return _servletPath;
+	}
+
+	@Override
+	public String getPathInfo() {
+		return _pathInfo;
+	}
+
+	@Override
+	public String getPathTranslated() {
+		if (_pathInfo == null) {
+			return null;
+		}
+		return _snapshot == null ? super.getPathTranslated() : _snapshot._context.getRealPath(_pathInfo);
+	}
+
+	@Override
+	public String getRequestURI() {
+		return _requestURI == null ? getContextPath() + _servletPath : _requestURI;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		StringBuffer url = new StringBuffer();
+		url.append(getScheme()).append("://").append(getServerName()).append(":").append(getServerPort());
+		url.append(getRequestURI());
+		return url;
+	}
+
+	@Override
+	public String getQueryString() {
+		return _queryString;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = _params.get(name);
+		if (values == null || values.length == 0) {
+			return null;
+		}
+		return values[0];
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return _params.get(name);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Map getParameterMap() {
+		return _params;
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Enumeration getParameterNames() {
+		return Collections.enumeration(_params.keySet());
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		Object value = _attributes.get(name);
+		if (value != null || _removed.contains(name) || _snapshot != null) {
+			return value;
+		}
+		return super.getAttribute(name);
+	}
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public Enumeration getAttributeNames() {
+		Set<String> names = new HashSet<String>();
+		if (_snapshot == null) {
+			for (Enumeration e = super.getAttributeNames(); e.hasMoreElements();) {
+				names.add((String) e.nextElement());
+			}
+			names.removeAll(_removed);
+		}
+		names.addAll(_attributes.keySet());
+		return Collections.enumeration(names);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			removeAttribute(name);
+			return;
+		}
+		_removed.remove(name);
+		_attributes.put(name, value);
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.remove(name);
+		_removed.add(name);
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return _snapshot == null ? super.getCharacterEncoding() : _snapshot._characterEncoding;
+	}
+
+	@Override
+	public void setCharacterEncoding(String env) {
+		// ׸ Ķʹ ̹ ڿ ؼǾ Ƿ  ûü ڼ ٲ ʴ´.
+	}
+
+	@Override
+	public String getContentType() {
+		return _snapshot == null ? super.getContentType() : _snapshot._contentType;
+	}
+
+	@Override
+	public int getContentLength() {
+		if (_snapshot == null) {
+			return super.getContentLength();
+		}
+		return _readBody ? _snapshot._contentLength : -1;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if (_snapshot == null) {
+			return super.getInputStream();
+		}
+		if (!_readBody) {
+			throw new IllegalStateException("Ľ ׸񿡼 û   ϴ.");
+		}
+		if (!_snapshot._fence.enter()) {
+			throw new IOException("û ̹ Ǿϴ.");
+		}
+		try {
+			return new FencedInputStream(super.getInputStream(), _snapshot._fence);
+		} finally {
+			_snapshot._fence.exit();
+		}
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		if (_snapshot == null) {
+			return super.getReader();
+		}
+		if (!_readBody) {
+			throw new IllegalStateException("Ľ ׸񿡼 û   ϴ.");
+		}
+		if (!_snapshot._fence.enter()) {
+			throw new IOException("û ̹ Ǿϴ.");
+		}
+		try {
+			return new BufferedReader(new FencedReader(super.getReader(), _snapshot._fence));
+		} finally {
+			_snapshot._fence.exit();
+		}
+	}
+
+	@Override
+	public String getProtocol() {
+		return _snapshot == null ? super.getProtocol() : _snapshot._protocol;
+	}
+
+	@Override
+	public String getScheme() {
+		return _snapshot == null ? super.getScheme() : _snapshot._scheme;
+	}
+
+	@Override
+	public String getServerName() {
+		return _snapshot == null ? super.getServerName() : _snapshot._serverName;
+	}
+
+	@Override
+	public int getServerPort() {
+		return _snapshot == null ? super.getServerPort() : _snapshot._serverPort;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return _snapshot == null ? super.getRemoteAddr() : _snapshot._remoteAddr;
+	}
+
+	@Override
+	public String getRemoteHost() {
+		return _snapshot == null ? super.getRemoteHost() : _snapshot._remoteHost;
+	}
+
+	@Override
+	public int getRemotePort() {
+		return _snapshot == null ? super.getRemotePort() : _snapshot._remotePort;
+	}
+
+	@Override
+	public String getLocalName() {
+		return _snapshot == null ? super.getLocalName() : _snapshot._localName;
+	}
+
+	@Override
+	public String getLocalAddr() {
+		return _snapshot == null ? super.getLocalAddr() : _snapshot._localAddr;
+	}
+
+	@Override
+	public int getLocalPort() {
+		return _snapshot == null ? super.getLocalPort() : _snapshot._localPort;
+	}
+
+	@Override
+	public Locale getLocale() {
+		return _snapshot == null ? super.getLocale() : _snapshot._locales.get(0);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Enumeration getLocales() {
+		return _snapshot == null ? super.getLocales() : Collections.enumeration(_snapshot._locales);
+	}
+
+	@Override
+	public boolean isSecure() {
+		return _snapshot == null ? super.isSecure() : _snapshot._secure;
+	}
+
+	@Override
+	public RequestDispatcher getRequestDispatcher(String path) {
+		if (_snapshot == null) {
+			return super.getRequestDispatcher(path);
+		}
+		if (path == null) {
+			return null;
+		}
+		if (!path.startsWith("/")) {
+			path = _servletPath.substring(0, _servletPath.lastIndexOf('/') + 1) + path;
+		}
+		return _snapshot._context.getRequestDispatcher(path);
+	}
+
+	@Override
+	@Deprecated
+	public String getRealPath(String path) {
+		return _snapshot == null ? super.getRealPath(path) : _snapshot._context.getRealPath(path);
+	}
+
+	@Override
+	public String getAuthType() {
+		return _snapshot == null ? super.getAuthType() : _snapshot._authType;
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		if (_snapshot == null) {
+			return super.getCookies();
+		}
+		return _snapshot._cookies == null ? null : _snapshot._cookies.clone();
+	}
+
+	@Override
+	public String getHeader(String name) {
+		if (_snapshot == null) {
+			return super.getHeader(name);
+		}
+		List<String> values = _snapshot._headers.get(name);
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Enumeration getHeaders(String name) {
+		if (_snapshot == null) {
+			return super.getHeaders(name);
+		}
+		List<String> values = _snapshot._headers.get(name);
+		return Collections.enumeration(values == null ? Collections.<String>emptyList() : values);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Enumeration getHeaderNames() {
+		return _snapshot == null ? super.getHeaderNames() : Collections.enumeration(_snapshot._headers.keySet());
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		if (_snapshot == null) {
+			return super.getIntHeader(name);
+		}
+		String value = getHeader(name);
+		return value == null ? -1 : Integer.parseInt(value);
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		if (_snapshot == null) {
+			return super.getDateHeader(name);
+		}
+		String value = getHeader(name);
+		if (value == null) {
+			return -1;
+		}
+		for (String pattern : _DATE_FORMATS) {
+			SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+			format.setTimeZone(TimeZone.getTimeZone("GMT"));
+			try {
+				return format.parse(value).getTime();
+			} catch (ParseException e) {
+			}
+		}
+		throw new IllegalArgumentException(value);
+	}
+
+	@Override
+	public String getMethod() {
+		return _snapshot == null ? super.getMethod() : _snapshot._method;
+	}
+
+	@Override
+	public String getContextPath() {
+		return _snapshot == null ? super.getContextPath() : _snapshot._contextPath;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return _snapshot == null ? super.getRemoteUser() : _snapshot._remoteUser;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return _snapshot == null ? super.getUserPrincipal() : _snapshot._userPrincipal;
+	}
+
+	@Override
+	public boolean isUserInRole(String role) {
+		if (_snapshot == null) {
+			return super.isUserInRole(role);
+		}
+		if (!_snapshot._fence.enter()) {
+			return false;
+		}
+		try {
+			return super.isUserInRole(role);
+		} finally {
+			_snapshot._fence.exit();
+		}
+	}
+
+	@Override
+	public String getRequestedSessionId() {
+		return _snapshot == null ? super.getRequestedSessionId() : _snapshot._requestedSessionId;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return _snapshot == null ? super.isRequestedSessionIdValid() : _snapshot._requestedSessionIdValid;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromCookie() {
+		return _snapshot == null ? super.isRequestedSessionIdFromCookie() : _snapshot._requestedSessionIdFromCookie;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromURL() {
+		return _snapshot == null ? super.isRequestedSessionIdFromURL() : _snapshot._requestedSessionIdFromURL;
+	}
+
+	@Override
+	@Deprecated
+	public boolean isRequestedSessionIdFromUrl() {
+		return isRequestedSessionIdFromURL();
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	/**
+	 *  Ѵ. Ľ ׸񿡼     ٸ ׸ ÿ  ʵ  ûü ȭϸ,
+	 * fence   Ŀ   ʰ null  Ѵ.
+	 */
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (_snapshot == null) {
+			return super.getSession(create);
+		}
+		HttpSession session = _snapshot._session;
+		if (session != null || !create) {
+			return session;
+		}
+		if (!_snapshot._fence.enter()) {
+			return null;
+		}
+		try {
+			synchronized (getRequest()) {
+				session = super.getSession(true);
+			}
+			_snapshot._session = session;
+			return session;
+		} finally {
+			_snapshot._fence.exit();
+		}
+	}
+
+	/**
+	 * fence   Ŀ  û  ʰ   óϴ Է½Ʈ̴.
+	 */
+	private static final class FencedInputStream extends ServletInputStream {
+		private final ServletInputStream _target;
+		private final FencedResponseWrapper _fence;
+
+		private FencedInputStream(ServletInputStream target, FencedResponseWrapper fence) {
+			this._target = target;
+			this._fence = fence;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (!_fence.enter()) {
+				return -1;
+			}
+			try {
+				return _target.read();
+			} finally {
+				_fence.exit();
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (!_fence.enter()) {
+				return -1;
+			}
+			try {
+				return _target.read(b, off, len);
+			} finally {
+				_fence.exit();
+			}
+		}
+
+		@Override
+		public int available() throws IOException {
+			if (!_fence.enter()) {
+				return 0;
+			}
+			try {
+				return _target.available();
+			} finally {
+				_fence.exit();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!_fence.enter()) {
+				return;
+			}
+			try {
+				_target.close();
+			} finally {
+				_fence.exit();
+			}
+		}
+	}
+
+	/**
+	 * fence   Ŀ  û  ʰ   óϴ Reader ̴.
+	 */
+	private static final class FencedReader extends Reader {
+		private final Reader _target;
+		private final FencedResponseWrapper _fence;
+
+		private FencedReader(Reader target, FencedResponseWrapper fence) {
+			this._target = target;
+			this._fence = fence;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (!_fence.enter()) {
+				return -1;
+			}
+			try {
+				return _target.read(cbuf, off, len);
+			} finally {
+				_fence.exit();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!_fence.enter()) {
+				return;
+			}
+			try {
+				_target.close();
+			} finally {
+				_fence.exit();
+			}
+		}
+	}
+
+	/**
+	 * Ľ ׸ 񵿱 Action  ϴ  ûü 
+	 */
+	private static final class Snapshot {
+		private final ServletContext _context;
+		private final FencedResponseWrapper _fence;
+		private final String _characterEncoding;
+		private final String _contentType;
+		private final int _contentLength;
+		private final String _protocol;
+		private final String _scheme;
+		private final String _serverName;
+		private final int _serverPort;
+		private final String _remoteAddr;
+		private final String _remoteHost;
+		private final int _remotePort;
+		private final String _localName;
+		private final String _localAddr;
+		private final int _localPort;
+		private final List<Locale> _locales = new ArrayList<Locale>();
+		private final boolean _secure;
+		private final String _authType;
+		private final Cookie[] _cookies;
+		private final Map<String, List<String>> _headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+		private final String _method;
+		private final String _contextPath;
+		private final String _remoteUser;
+		private final Principal _userPrincipal;
+		private final String _requestedSessionId;
+		private final boolean _requestedSessionIdValid;
+		private final boolean _requestedSessionIdFromCookie;
+		private final boolean _requestedSessionIdFromURL;
+		private volatile HttpSession _session;
+
+		private Snapshot(HttpServletRequest request, ServletContext context, FencedResponseWrapper fence) {
+			this._context = context;
+			this._fence = fence;
+			this._characterEncoding = request.getCharacterEncoding();
+			this._contentType = request.getContentType();
+			this._contentLength = request.getContentLength();
+			this._protocol = request.getProtocol();
+			this._scheme = request.getScheme();
+			this._serverName = request.getServerName();
+			this._serverPort = request.getServerPort();
+			this._remoteAddr = request.getRemoteAddr();
+			this._remoteHost = request.getRemoteHost();
+			this._remotePort = request.getRemotePort();
+			this._localName = request.getLocalName();
+			this._localAddr = request.getLocalAddr();
+			this._localPort = request.getLocalPort();
+			for (Enumeration<?> e = request.getLocales(); e.hasMoreElements();) {
+				this._locales.add((Locale) e.nextElement());
+			}
+			if (this._locales.isEmpty()) {
+				this._locales.add(Locale.getDefault());
+			}
+			this._secure = request.isSecure();
+			this._authType = request.getAuthType();
+			this._cookies = request.getCookies();
+			for (Enumeration<?> names = request.getHeaderNames(); names != null && names.hasMoreElements();) {
+				String name = (String) names.nextElement();
+				List<String> values = new ArrayList<String>();
+				for (Enumeration<?> e = request.getHeaders(name); e.hasMoreElements();) {
+					values.add((String) e.nextElement());
+				}
+				this._headers.put(name, values);
+			}
+			this._method = request.getMethod();
+			this._contextPath = request.getContextPath();
+			this._remoteUser = request.getRemoteUser();
+			this._userPrincipal = request.getUserPrincipal();
+			this._requestedSessionId = request.getRequestedSessionId();
+			this._requestedSessionIdValid = request.isRequestedSessionIdValid();
+			this._requestedSessionIdFromCookie = request.isRequestedSessionIdFromCookie();
+			this._requestedSessionIdFromURL = request.isRequestedSessionIdFromURL();
+			this._session = request.getSession(false);
+		}
+	}
+}
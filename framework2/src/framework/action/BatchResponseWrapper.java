@@ -0,0 +1,238 @@
+/**
+ * @(#)BatchResponseWrapper.java
+ */
+package framework.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * ϰû Ե  û  ޸𸮿 ϴ 䰴ü̴.
+ * ڵ, Ÿ,  ϸ     ʴ´.
+ * Ű α  ó   ξٰ ׸   û 忡  信 ߰Ѵ.
+ */
+final class BatchResponseWrapper extends HttpServletResponseWrapper {
+	private final ByteArrayOutputStream _body = new ByteArrayOutputStream(4 * 1024);
+	private int _status = HttpServletResponse.SC_OK;
+	private String _contentType = null;
+	private String _characterEncoding = null;
+	private String _location = null;
+	private final List<Cookie> _cookies = new ArrayList<Cookie>();
+	private ServletOutputStream _out = null;
+	private PrintWriter _writer = null;
+
+	/**
+	 * BatchResponseWrapper 
+	 *
+	 * @param response ϰû HTTP Ŭ̾Ʈ 䰴ü, Ľ ׸ FencedResponseWrapper   䰴ü
+	 */
+	BatchResponseWrapper(HttpServletResponse response) {
+		super(response);
+	}
+
+	/**
+	 * ϵ ڵ带 Ѵ.
+	 *
+	 * @return ڵ
+	 */
+	int getItemStatus() {
+		return _status;
+	}
+
+	/**
+	 * (Redirect) θ Ѵ.
+	 *
+	 * @return  ,  ʾ null
+	 */
+	String getLocation() {
+		return _location;
+	}
+
+	/**
+	 * ׸ ߰ Ű  Ѵ.
+	 *
+	 * @return Ű 
+	 */
+	List<Cookie> getItemCookies() {
+		return _cookies;
+	}
+
+	/**
+	 * ϵ  ڿ Ѵ.
+	 *
+	 * @return  ڿ
+	 * @throws UnsupportedEncodingException  ʴ ڼ 
+	 */
+	String getBody() throws UnsupportedEncodingException {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		return _body.toString(getCharacterEncoding());
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (_out == null) {
+			_out = new ServletOutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					_body.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					_body.write(b, off, len);
+				}
+			};
+		}
+		return _out;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (_writer == null) {
+			_writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+		}
+		return _writer;
+	}
+
+	@Override
+	public String getContentType() {
+		return _contentType;
+	}
+
+	@Override
+	public void setContentType(String contentType) {
+		_contentType = contentType;
+		if (contentType != null) {
+			int index = contentType.toLowerCase().indexOf("charset=");
+			if (index > -1) {
+				_characterEncoding = contentType.substring(index + 8).trim();
+			}
+		}
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return _characterEncoding == null ? super.getCharacterEncoding() : _characterEncoding;
+	}
+
+	@Override
+	public void setCharacterEncoding(String charset) {
+		_characterEncoding = charset;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+	}
+
+	@Override
+	public void setLocale(Locale locale) {
+	}
+
+	@Override
+	public void setBufferSize(int size) {
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (_writer != null) {
+			_writer.flush();
+		}
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return false;
+	}
+
+	@Override
+	public void reset() {
+		resetBuffer();
+		_status = HttpServletResponse.SC_OK;
+		_location = null;
+	}
+
+	@Override
+	public void resetBuffer() {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		_body.reset();
+	}
+
+	@Override
+	public void setStatus(int status) {
+		_status = status;
+	}
+
+	@Override
+	@Deprecated
+	public void setStatus(int status, String message) {
+		_status = status;
+	}
+
+	@Override
+	public void sendError(int status) throws IOException {
+		resetBuffer();
+		_status = status;
+	}
+
+	@Override
+	public void sendError(int status, String message) throws IOException {
+		resetBuffer();
+		_status = status;
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		resetBuffer();
+		_status = HttpServletResponse.SC_MOVED_TEMPORARILY;
+		_location = location;
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		_cookies.add(cookie);
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		return false;
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+	}
+}
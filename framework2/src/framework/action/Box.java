@@ -50,6 +50,22 @@ public class Box extends HashMap<String, String[]> {
 		return box;
 	}
 
+	/**
+	 * ûü Ķ͸  ʰ   ûü  ã Box Ѵ.
+	 *   Ķ͸ óϹǷ ĶͰ  û ޸ Ҵ   ִ.
+	 * keySet(), size()  ü  ʿ ޼ҵ尡 ȣǸ    Ķ͸ Ѵ.
+	 * ûü ϹǷ û  Ŀ  (, ٸ  ) Ϸ getBox()  ؾ Ѵ.
+	 * <br>
+	 * ex) request Box ü  : Box box = Box.getLazyBox(request)
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 *
+	 * @return ûBox ü
+	 */
+	public static Box getLazyBox(HttpServletRequest request) {
+		return new LazyBox(request);
+	}
+
 	/**
 	 * ûü Ű ̸   ؽ̺ Ѵ.
 	 * <br>
@@ -87,7 +103,7 @@ public class Box extends HashMap<String, String[]> {
 	 * @return key εǾ ִ  Ǵ ⺻ 
 	 */
 	public String[] getArray(String key, String[] defaultValue) {
-		String[] value = super.get(key);
+		String[] value = getValues(key);
 		if (value == null) {
 			return defaultValue;
 		}
@@ -310,7 +326,7 @@ public class Box extends HashMap<String, String[]> {
 	 * @return key εǾ ִ  Ǵ ⺻ 
 	 */
 	public String getRawString(String key, String defaultValue) {
-		String[] value = super.get(key);
+		String[] value = getValues(key);
 		if (value == null || value.length == 0 || StringUtil.isEmpty(value[0])) {
 			return defaultValue;
 		}
@@ -377,6 +393,17 @@ public class Box extends HashMap<String, String[]> {
 		}
 	}
 
+	/**
+	 * Ű(key)ڿ εǾ ִ ڿ 迭 Ѵ.
+	 *  getXxx ޼ҵ  ޼ҵ  Ƿ Ŭ  ã  ٲ  ִ.
+	 *
+	 * @param key  ã  Ű ڿ
+	 * @return key εǾ ִ ڿ 迭,  null
+	 */
+	protected String[] getValues(String key) {
+		return super.get(key);
+	}
+
 	/**
 	 * Ű(key) εǴ Ʈ Ѵ.
 	 *
@@ -0,0 +1,73 @@
+/**
+ * @(#)CachedResponse.java
+ */
+package framework.action;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * ĳÿ Ǵ  ڵ, ,   ü̴.
+ */
+final class CachedResponse implements Serializable {
+	private static final long serialVersionUID = -3180934472514296614L;
+	private final int _status;
+	private final String _contentType;
+	private final ArrayList<String[]> _headers;
+	private final byte[] _body;
+
+	/**
+	 * CachedResponse 
+	 *
+	 * @param status ڵ
+	 * @param contentType Content-Type
+	 * @param headers   (̸, )
+	 * @param body 亻
+	 */
+	CachedResponse(int status, String contentType, List<String[]> headers, byte[] body) {
+		this._status = status;
+		this._contentType = contentType;
+		this._headers = new ArrayList<String[]>(headers);
+		this._body = body;
+	}
+
+	/**
+	 *   Ŭ̾Ʈ Ѵ.
+	 *  ETag If-None-Match û ġϸ   304 , HEAD û̸  Ѵ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @throws IOException  ۽  ߻ 
+	 */
+	void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String etag = null;
+		for (String[] header : _headers) {
+			response.addHeader(header[0], header[1]);
+			if ("ETag".equalsIgnoreCase(header[0])) {
+				etag = header[1];
+			}
+		}
+		if (ETagResponseWrapper.matches(request.getHeader("If-None-Match"), etag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		response.setStatus(_status);
+		if (_contentType != null) {
+			response.setContentType(_contentType);
+		}
+		response.setContentLength(_body.length);
+		if (!"HEAD".equals(request.getMethod())) {
+			response.getOutputStream().write(_body);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CachedResponse[" + _status + ", " + _contentType + ", " + _body.length + "bytes]";
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * @(#)ConfigReloader.java
+ */
+package framework.action;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ResourceBundle;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+
+/**
+ * (config.properties) (action.properties)  Ͽ    ٽ о̴ Ŭ̴.
+ *   忡  ð ֱ Ȯϸ,    ̺ ûó ϰ   ѹ üȴ.
+ *     ʵ ð  ֱ    쿡 ٽ ,
+ *  ߸Ǿų ã   Action Ŭ ִ 쿡   ״ Ѵ.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.reload.interval :   Ȯ ֱ(), 0 ̸   (⺻ 0)
+ * <br>
+ * ٽ    ٲ  ý, ó  ¸ ϸ, Ǯ ũ(action.async.poolSize, action.batch.poolSize)
+ * ϰû ׸ , ŸӾƿ, ĳÿ ĳ ִũ ߿ ٷ Ѵ.
+ * ⿭ ũ, 󾲷 뿩, ϰû ׼Ű, ĳ 뿩ο ĳü, ĿؼǮ,  ĳ,    ؾ ȴ.
+ */
+final class ConfigReloader implements Runnable {
+	private static Log _logger = LogFactory.getLog(framework.action.ConfigReloader.class);
+	private final ActionServlet _servlet;
+	private final WatchedFile _config;
+	private final WatchedFile _mapping;
+	private ScheduledExecutorService _scheduler = null;
+
+	/**
+	 * ConfigReloader 
+	 *
+	 * @param servlet  ̺ ü 
+	 * @param mappingUrl (action.properties) URL
+	 */
+	ConfigReloader(ActionServlet servlet, URL mappingUrl) {
+		this._servlet = servlet;
+		this._config = WatchedFile.create(Configuration.getResource());
+		this._mapping = WatchedFile.create(mappingUrl);
+	}
+
+	/**
+	 *  ֱ  ø Ѵ. ֱⰡ 0 ̰ų   ִ    ʴ´.
+	 */
+	void start() {
+		long interval = getConfig().getLong("action.reload.interval", 0);
+		if (interval <= 0) {
+			return;
+		}
+		if (_config == null && _mapping == null) {
+			getLogger().warn("  ִ  ϴ. Ͻýۿ ִ ϸ ٽ   ֽϴ.");
+			return;
+		}
+		_scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "framework-config-reloader");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		_scheduler.scheduleWithFixedDelay(this, interval, interval, TimeUnit.SECONDS);
+		getLogger().info(" ø մϴ. (" + interval + ")");
+	}
+
+	/**
+	 *  ø Ѵ.
+	 */
+	void stop() {
+		if (_scheduler != null) {
+			_scheduler.shutdownNow();
+			_scheduler = null;
+		}
+	}
+
+	/**
+	 *  濩θ ȮϿ   ٽ д´.
+	 *   (񵿱 ŸӾƿ, ĳ,  ) ϹǷ  ٲ 쿡  ̺ ٽ Ѵ.
+	 */
+	@Override
+	public void run() {
+		try {
+			boolean configChanged = _config != null && _config.poll();
+			boolean mappingChanged = _mapping != null && _mapping.poll();
+			if (configChanged && !Configuration.reload()) {
+				configChanged = false;
+			}
+			if (configChanged) {
+				_servlet.reconfigure();
+			}
+			if ((configChanged || mappingChanged) && _mapping != null) {
+				_reloadMapping();
+			}
+		} catch (Throwable e) {
+			getLogger().error(" ٽ д   ߻Ͽϴ.", e);
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private void _reloadMapping() {
+		try {
+			ResourceBundle bundle = Configuration.loadBundle(_mapping.getUrl());
+			_servlet.setMapping(ActionMapping.load(bundle, true, _servlet.getMapping()));
+			getLogger().info("Action  ٽ оϴ. (" + _mapping.getUrl() + ")");
+		} catch (Exception e) {
+			getLogger().error("Action  ùٸ ʾ   մϴ. (" + _mapping.getUrl() + ")", e);
+		}
+	}
+
+	private Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private Log getLogger() {
+		return ConfigReloader._logger;
+	}
+
+	/**
+	 * ð ϴ 
+	 */
+	private static final class WatchedFile {
+		private final URL _url;
+		private final File _file;
+		private long _applied;
+		private long _seen;
+
+		private WatchedFile(URL url, File file) {
+			this._url = url;
+			this._file = file;
+			this._applied = file.lastModified();
+			this._seen = this._applied;
+		}
+
+		/**
+		 * Ͻýۿ ִ  쿡  ü Ѵ.
+		 */
+		static WatchedFile create(URL url) {
+			if (url == null || !"file".equals(url.getProtocol())) {
+				return null;
+			}
+			try {
+				return new WatchedFile(url, new File(url.toURI()));
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
+		URL getUrl() {
+			return _url;
+		}
+
+		/**
+		 * ð ٲ   ֱ   ̻ ٲ ʾ true  Ѵ.
+		 */
+		boolean poll() {
+			long modified = _file.lastModified();
+			boolean stable = modified == _seen;
+			_seen = modified;
+			if (stable && modified != 0 && modified != _applied) {
+				_applied = modified;
+				return true;
+			}
+			return false;
+		}
+	}
+}
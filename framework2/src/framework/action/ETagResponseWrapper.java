@@ -0,0 +1,302 @@
+/**
+ * @(#)ETagResponseWrapper.java
+ */
+package framework.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.apache.commons.codec.binary.Hex;
+
+import framework.config.Configuration;
+import framework.util.CryptUtil;
+
+/**
+ * 亻 ۿ 鼭 ؽ Ͽ ETag , If-None-Match û ġϸ   304   䰴ü̴.
+ * HEAD û   ʰ Content-Length  ETag  Ѵ.
+ * Action  ū ETag    쿡  ؽ  ʴ´.
+ *  action.etag.maxSize (⺻ 1048576 byte)   ۿ  ʰ ״ ϸ ETag  304  Ѵ.
+ * (HEAD û    Content-Length  Ѵ.)
+ */
+final class ETagResponseWrapper extends HttpServletResponseWrapper {
+	private static final String _ALGORITHM = "MD5";
+	private final HttpServletRequest _request;
+	private final ByteArrayOutputStream _body = new ByteArrayOutputStream(8 * 1024);
+	private final MessageDigest _digest;
+	private final int _maxSize;
+	private boolean _streaming = false;
+	private int _status = HttpServletResponse.SC_OK;
+	private boolean _bypass = false;
+	private String _etag = null;
+	private ServletOutputStream _out = null;
+	private PrintWriter _writer = null;
+
+	/**
+	 * ETagResponseWrapper 
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @param computeETag  ؽ ETag  , false ̸ HEAD û  Ѵ.
+	 */
+	ETagResponseWrapper(HttpServletRequest request, HttpServletResponse response, boolean computeETag) {
+		super(response);
+		this._request = request;
+		this._digest = computeETag ? _newDigest() : null;
+		this._maxSize = Configuration.getInstance().getInt("action.etag.maxSize", 1024 * 1024);
+	}
+
+	/**
+	 *  ū û URI  ETag .
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param version  ū
+	 * @return ETag  
+	 */
+	static String createETag(HttpServletRequest request, String version) {
+		String queryString = request.getQueryString();
+		return "\"" + CryptUtil.hashSHA1(request.getRequestURI() + "?" + (queryString == null ? "" : queryString) + "\n" + version) + "\"";
+	}
+
+	/**
+	 * If-None-Match û  ETag ġϴ θ Ѵ. (W/) 񱳸 Ѵ.
+	 *
+	 * @param ifNoneMatch If-None-Match û 
+	 * @param etag ETag  
+	 * @return ġ
+	 */
+	static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || etag == null) {
+			return false;
+		}
+		String opaqueTag = _opaqueTag(etag);
+		for (String tag : ifNoneMatch.split(",")) {
+			tag = tag.trim();
+			if ("*".equals(tag) || _opaqueTag(tag).equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * ۿ   Ѵ.
+	 * ڵ尡 200 ̰ ETag If-None-Match û ġϸ   304  .
+	 *
+	 * @throws IOException  ۽  ߻ 
+	 */
+	void finish() throws IOException {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		if (_bypass || _streaming || _status == HttpServletResponse.SC_NOT_MODIFIED) {
+			return;
+		}
+		if (_status == HttpServletResponse.SC_OK) {
+			String etag = _etag;
+			if (etag == null && _digest != null) {
+				etag = "\"" + String.valueOf(Hex.encodeHex(_digest.digest())) + "\"";
+				super.setHeader("ETag", etag);
+			}
+			if (etag != null && matches(_request.getHeader("If-None-Match"), etag)) {
+				super.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return;
+			}
+		}
+		super.setContentLength(_body.size());
+		if (!"HEAD".equals(_request.getMethod())) {
+			_body.writeTo(super.getOutputStream());
+		}
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		if (_out == null) {
+			_out = new BufferedOutputStream();
+		}
+		return _out;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (_writer == null) {
+			_writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+		}
+		return _writer;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		if (_streaming && !"HEAD".equals(_request.getMethod())) {
+			super.setContentLength(len);
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		if (_streaming) {
+			super.flushBuffer();
+		}
+	}
+
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		_body.reset();
+		if (_digest != null) {
+			_digest.reset();
+		}
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		_body.reset();
+		if (_digest != null) {
+			_digest.reset();
+		}
+		_status = HttpServletResponse.SC_OK;
+		_etag = null;
+	}
+
+	@Override
+	public void setStatus(int status) {
+		_status = status;
+		super.setStatus(status);
+	}
+
+	@Override
+	@Deprecated
+	public void setStatus(int status, String message) {
+		_status = status;
+		super.setStatus(status, message);
+	}
+
+	@Override
+	public void sendError(int status) throws IOException {
+		_bypass = true;
+		super.sendError(status);
+	}
+
+	@Override
+	public void sendError(int status, String message) throws IOException {
+		_bypass = true;
+		super.sendError(status, message);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		_bypass = true;
+		super.sendRedirect(location);
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if ("ETag".equalsIgnoreCase(name)) {
+			_etag = value;
+		}
+		super.setHeader(name, value);
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		if ("ETag".equalsIgnoreCase(name)) {
+			_etag = value;
+		}
+		super.addHeader(name, value);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static MessageDigest _newDigest() {
+		try {
+			return MessageDigest.getInstance(_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 *  ִũ⸦  ۿ   ϰ ķδ ״ Ѵ.
+	 */
+	private boolean _overflow(int len) throws IOException {
+		if (_streaming) {
+			return true;
+		}
+		if (_maxSize < 0 || _body.size() + len <= _maxSize) {
+			return false;
+		}
+		_streaming = true;
+		if (!"HEAD".equals(_request.getMethod())) {
+			_body.writeTo(super.getOutputStream());
+		}
+		_body.reset();
+		return true;
+	}
+
+	/**
+	 * ִũ⸦   Ѵ. HEAD û̸ .
+	 */
+	private void _stream(byte[] b, int off, int len) throws IOException {
+		if (!"HEAD".equals(_request.getMethod())) {
+			super.getOutputStream().write(b, off, len);
+		}
+	}
+
+	private static String _opaqueTag(String tag) {
+		if (tag.startsWith("W/")) {
+			return tag.substring(2);
+		}
+		return tag;
+	}
+
+	/**
+	 *  ۿ 鼭 ؽ ϴ ½Ʈ̴. ִũ⸦  ״ Ѵ.
+	 * forward  JSP  ̳ʰ ݴ ۴ finish()  ۵ǵ close() Ѵ.
+	 */
+	private class BufferedOutputStream extends ServletOutputStream {
+		@Override
+		public void write(int b) throws IOException {
+			if (_bypass) {
+				return;
+			}
+			if (_overflow(1)) {
+				_stream(new byte[] { (byte) b }, 0, 1);
+				return;
+			}
+			_body.write(b);
+			if (_digest != null) {
+				_digest.update((byte) b);
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (_bypass) {
+				return;
+			}
+			if (_overflow(len)) {
+				_stream(b, off, len);
+				return;
+			}
+			_body.write(b, off, len);
+			if (_digest != null) {
+				_digest.update(b, off, len);
+			}
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
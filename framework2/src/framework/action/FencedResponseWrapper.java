@@ -0,0 +1,574 @@
+/**
+ * @(#)FencedResponseWrapper.java
+ */
+package framework.action;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * ٸ 忡 Ǵ Action  ѱ 䰴ü̴.
+ * fence()  ȣ Ŀ ڵ, , Ű,   ̳ 䰴ü   ȣ , ȸ ޼ҵ ⺻ Ѵ.
+ * ŸӾƿ Ŀ  Ǵ Action  ̳ʰ ̹  䰴ü  ʵ ϱ  ϸ,
+ * fence()   ȣ   ٸ  Ѵ.
+ * 󾲷尡 (pinning) ʵ (synchronized)   Ѵ.
+ */
+final class FencedResponseWrapper extends HttpServletResponseWrapper {
+	private final Lock _lock = new ReentrantLock();
+	private volatile boolean _fenced = false;
+	private ServletOutputStream _out = null;
+	private PrintWriter _writer = null;
+
+	/**
+	 * FencedResponseWrapper 
+	 *
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 */
+	FencedResponseWrapper(HttpServletResponse response) {
+		super(response);
+	}
+
+	/**
+	 *    ȣ  Ѵ.  ȣ    ٸ.
+	 */
+	void fence() {
+		_lock.lock();
+		try {
+			_fenced = true;
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * fence()  ȣǾ θ Ѵ.
+	 *
+	 * @return fence() ȣ⿩
+	 */
+	boolean isFenced() {
+		return _fenced;
+	}
+
+	/**
+	 * fence()  ȣ ʾ   true  Ѵ. true    ݵ exit()  ȣؾ Ѵ.
+	 * 䰴ü ܿ  ûü ޵Ǵ ȣ⵵   ϱ  Ѵ.
+	 *
+	 * @return ȣ ɿ
+	 */
+	boolean enter() {
+		return _enter();
+	}
+
+	/**
+	 * enter()    ݳѴ.
+	 */
+	void exit() {
+		_lock.unlock();
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (_out == null) {
+			_out = new FencedOutputStream(_getOutputStream());
+		}
+		return _out;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (_writer == null) {
+			_writer = new PrintWriter(new FencedWriter(_getWriter()));
+		}
+		return _writer;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		if (!_enter()) {
+			return "ISO-8859-1";
+		}
+		try {
+			return super.getCharacterEncoding();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public String getContentType() {
+		if (!_enter()) {
+			return null;
+		}
+		try {
+			return super.getContentType();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public Locale getLocale() {
+		if (!_enter()) {
+			return Locale.getDefault();
+		}
+		try {
+			return super.getLocale();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public int getBufferSize() {
+		if (!_enter()) {
+			return 0;
+		}
+		try {
+			return super.getBufferSize();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		if (!_enter()) {
+			return false;
+		}
+		try {
+			return super.containsHeader(name);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isCommitted() {
+		if (!_enter()) {
+			return true;
+		}
+		try {
+			return super.isCommitted();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.flushBuffer();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void reset() {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.reset();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void resetBuffer() {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.resetBuffer();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setBufferSize(int size) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setBufferSize(size);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setContentType(String type) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setContentType(type);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setContentLength(len);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setCharacterEncoding(String charset) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setCharacterEncoding(charset);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setLocale(Locale locale) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setLocale(locale);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setStatus(int status) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setStatus(status);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void setStatus(int status, String message) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setStatus(status, message);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void sendError(int status) throws IOException {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.sendError(status);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void sendError(int status, String message) throws IOException {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.sendError(status, message);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.sendRedirect(location);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.addCookie(cookie);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setHeader(name, value);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.addHeader(name, value);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setDateHeader(name, date);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.addDateHeader(name, date);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.setIntHeader(name, value);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		if (!_enter()) {
+			return;
+		}
+		try {
+			super.addIntHeader(name, value);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public String encodeURL(String url) {
+		if (!_enter()) {
+			return url;
+		}
+		try {
+			return super.encodeURL(url);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public String encodeRedirectURL(String url) {
+		if (!_enter()) {
+			return url;
+		}
+		try {
+			return super.encodeRedirectURL(url);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 *  ´. ̹ fence()  ȣǾ   ʰ false  Ѵ.
+	 */
+	private boolean _enter() {
+		if (_fenced) {
+			return false;
+		}
+		_lock.lock();
+		if (_fenced) {
+			_lock.unlock();
+			return false;
+		}
+		return true;
+	}
+
+	private ServletOutputStream _getOutputStream() throws IOException {
+		if (!_enter()) {
+			return null;
+		}
+		try {
+			return super.getOutputStream();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	private PrintWriter _getWriter() throws IOException {
+		if (!_enter()) {
+			return null;
+		}
+		try {
+			return super.getWriter();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * fence()  ⸦  ½Ʈ̴.
+	 */
+	private class FencedOutputStream extends ServletOutputStream {
+		private final ServletOutputStream _target;
+
+		private FencedOutputStream(ServletOutputStream target) {
+			this._target = target;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.write(b);
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.write(b, off, len);
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.flush();
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.close();
+			} finally {
+				_lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * fence()  ⸦  Writer ̴. ̳ Writer  ٷ Ƿ  ۸  ʴ´.
+	 */
+	private class FencedWriter extends Writer {
+		private final PrintWriter _target;
+
+		private FencedWriter(PrintWriter target) {
+			this._target = target;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.write(cbuf, off, len);
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.flush();
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (_target == null || !_enter()) {
+				return;
+			}
+			try {
+				_target.close();
+			} finally {
+				_lock.unlock();
+			}
+		}
+	}
+}
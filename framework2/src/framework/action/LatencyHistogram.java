@@ -0,0 +1,116 @@
+/**
+ * @(#)LatencyHistogram.java
+ */
+package framework.action;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ð(ũ) α   ϴ ׷̴.
+ * 2 ŵ  ٽ 8   12% ̳   ϸ,
+ *     óǹǷ Ͻ   ʴ´.
+ */
+final class LatencyHistogram {
+	private static final int _SUB_BITS = 3;
+	private static final int _SUB_COUNT = 1 << _SUB_BITS;
+	private static final int _BUCKET_COUNT = 320;
+	private final AtomicLongArray _buckets = new AtomicLongArray(_BUCKET_COUNT);
+	private final AtomicLong _count = new AtomicLong();
+	private final AtomicLong _total = new AtomicLong();
+	private final AtomicLong _max = new AtomicLong();
+
+	/**
+	 * ð Ѵ.
+	 *
+	 * @param micros ð(ũ)
+	 */
+	void record(long micros) {
+		if (micros < 0) {
+			micros = 0;
+		}
+		_buckets.incrementAndGet(_index(micros));
+		_count.incrementAndGet();
+		_total.addAndGet(micros);
+		long max = _max.get();
+		while (micros > max && !_max.compareAndSet(max, micros)) {
+			max = _max.get();
+		}
+	}
+
+	/**
+	 * ϵ Ǽ Ѵ.
+	 *
+	 * @return ϰǼ
+	 */
+	long getCount() {
+		return _count.get();
+	}
+
+	/**
+	 *  ð Ѵ.
+	 *
+	 * @return  ð(и)
+	 */
+	double getMean() {
+		long count = _count.get();
+		if (count == 0) {
+			return 0;
+		}
+		return _total.get() / (double) count / 1000.0;
+	}
+
+	/**
+	 * ִ ð Ѵ.
+	 *
+	 * @return ִ ð(и)
+	 */
+	double getMax() {
+		return _max.get() / 1000.0;
+	}
+
+	/**
+	 *  شϴ ð Ѵ.
+	 *
+	 * @param percentile  (: 95.0)
+	 * @return ð(и), ش  Ѱ
+	 */
+	double getPercentile(double percentile) {
+		long count = _count.get();
+		if (count == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+		if (target < 1) {
+			target = 1;
+		}
+		long sum = 0;
+		for (int i = 0; i < _BUCKET_COUNT; i++) {
+			sum += _buckets.get(i);
+			if (sum >= target) {
+				return Math.min(_upperBound(i), _max.get()) / 1000.0;
+			}
+		}
+		return getMax();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static int _index(long value) {
+		if (value < _SUB_COUNT) {
+			return (int) value;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exp - _SUB_BITS)) & (_SUB_COUNT - 1);
+		return Math.min(_BUCKET_COUNT - 1, (exp - _SUB_BITS + 1) * _SUB_COUNT + sub);
+	}
+
+	private static long _upperBound(int index) {
+		if (index < _SUB_COUNT) {
+			return index;
+		}
+		int exp = index / _SUB_COUNT + _SUB_BITS - 1;
+		int sub = index % _SUB_COUNT;
+		long lower = (long) (_SUB_COUNT + sub) << (exp - _SUB_BITS);
+		return lower + (1L << (exp - _SUB_BITS)) - 1;
+	}
+}
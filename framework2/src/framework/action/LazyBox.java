@@ -0,0 +1,241 @@
+/**
+ * @(#)LazyBox.java
+ */
+package framework.action;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * ûü Ķ͸  ʰ ûü   д Box ü̴.
+ *    ûü Ķ  ȸϸ, put()   ûĶͺ 켱Ѵ.
+ * keySet(), entrySet(), size()  ü  ʿ ޼ҵ尡 ó ȣǴ   Ķ͸ Ѵ.
+ * , ¥ ȯ  ĳϿ  Ű ݺؼ   ٽ ȯ ʴ´.
+ */
+final class LazyBox extends Box {
+	private static final long serialVersionUID = -2637385472218497730L;
+	private static final Object _NONE = new Object();
+	private transient HttpServletRequest _request = null;
+	private transient boolean _loaded = false;
+	private transient Map<String, Object> _converted = null;
+
+	/**
+	 * LazyBox 
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 */
+	LazyBox(HttpServletRequest request) {
+		super("requestbox");
+		this._request = request;
+	}
+
+	@Override
+	protected String[] getValues(String key) {
+		return get((Object) key);
+	}
+
+	@Override
+	public String[] get(Object key) {
+		String[] value = super.get(key);
+		if (value == null && !_loaded && key instanceof String && !super.containsKey(key)) {
+			value = _request.getParameterValues((String) key);
+		}
+		return value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (super.containsKey(key)) {
+			return true;
+		}
+		return !_loaded && _request.getParameterMap().containsKey(key);
+	}
+
+	@Override
+	public String[] put(String key, String[] value) {
+		_clearConverted();
+		String[] prev = get((Object) key);
+		super.put(key, value);
+		return prev;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends String[]> map) {
+		_clearConverted();
+		super.putAll(map);
+	}
+
+	@Override
+	public String[] remove(Object key) {
+		_load();
+		_clearConverted();
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		_loaded = true;
+		_clearConverted();
+		super.clear();
+	}
+
+	@Override
+	public int size() {
+		_load();
+		return super.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		_load();
+		return super.isEmpty();
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		_load();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Set<String> keySet() {
+		_load();
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<String[]> values() {
+		_load();
+		return super.values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, String[]>> entrySet() {
+		_load();
+		return super.entrySet();
+	}
+
+	@Override
+	public Object clone() {
+		_load();
+		LazyBox box = (LazyBox) super.clone();
+		box._converted = null;
+		return box;
+	}
+
+	@Override
+	public Double getDouble(String key, Double defaultValue) {
+		Object value = _getConverted("D", key);
+		if (value == null) {
+			value = _putConverted("D", key, super.getDouble(key, null));
+		}
+		return value == _NONE ? defaultValue : (Double) value;
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String key, BigDecimal defaultValue) {
+		Object value = _getConverted("B", key);
+		if (value == null) {
+			value = _putConverted("B", key, super.getBigDecimal(key, null));
+		}
+		return value == _NONE ? defaultValue : (BigDecimal) value;
+	}
+
+	@Override
+	public Float getFloat(String key, Float defaultValue) {
+		Object value = _getConverted("F", key);
+		if (value == null) {
+			value = _putConverted("F", key, super.getFloat(key, null));
+		}
+		return value == _NONE ? defaultValue : (Float) value;
+	}
+
+	@Override
+	public Integer getInteger(String key, Integer defaultValue) {
+		Object value = _getConverted("I", key);
+		if (value == null) {
+			value = _putConverted("I", key, super.getInteger(key, null));
+		}
+		return value == _NONE ? defaultValue : (Integer) value;
+	}
+
+	@Override
+	public Long getLong(String key, Long defaultValue) {
+		Object value = _getConverted("L", key);
+		if (value == null) {
+			value = _putConverted("L", key, super.getLong(key, null));
+		}
+		return value == _NONE ? defaultValue : (Long) value;
+	}
+
+	@Override
+	public Date getDate(String key, Date defaultValue) {
+		Object value = _getConverted("T", key);
+		if (value == null) {
+			value = _putConverted("T", key, super.getDate(key, (Date) null));
+		}
+		return value == _NONE ? defaultValue : new Date(((Date) value).getTime());
+	}
+
+	@Override
+	public Date getDate(String key, String format, Date defaultValue) {
+		Object value = _getConverted("T" + format, key);
+		if (value == null) {
+			value = _putConverted("T" + format, key, super.getDate(key, format, (Date) null));
+		}
+		return value == _NONE ? defaultValue : new Date(((Date) value).getTime());
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 *    ûĶ͸  Ѵ. put()    ʴ´.
+	 */
+	private void _load() {
+		if (_loaded) {
+			return;
+		}
+		_loaded = true;
+		for (Object obj : _request.getParameterMap().keySet()) {
+			String key = (String) obj;
+			if (!super.containsKey(key)) {
+				super.put(key, _request.getParameterValues(key));
+			}
+		}
+	}
+
+	private Object _getConverted(String type, String key) {
+		if (_converted == null) {
+			return null;
+		}
+		return _converted.get(type + ":" + key);
+	}
+
+	private Object _putConverted(String type, String key, Object value) {
+		if (_converted == null) {
+			_converted = new HashMap<String, Object>();
+		}
+		Object converted = value == null ? _NONE : value;
+		_converted.put(type + ":" + key, converted);
+		return converted;
+	}
+
+	private void _clearConverted() {
+		if (_converted != null) {
+			_converted.clear();
+		}
+	}
+
+	/**
+	 * ȭ   Ķ͸  Ϲ Box ü üѴ.
+	 */
+	private Object writeReplace() {
+		Box box = new Box("requestbox");
+		box.putAll(this);
+		return box;
+	}
+}
@@ -4,14 +4,25 @@
 package framework.action;
 
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 
 import framework.config.Configuration;
 
@@ -22,6 +33,7 @@ import framework.config.Configuration;
 public class MultipartBox extends Box {
 	private static final long serialVersionUID = -8810823011616521004L;
 	private List<FileItem> _fileItems = null;
+	private List<UploadedFile> _uploadedFiles = null;
 
 	/***
 	 * MultipartBox 
@@ -30,6 +42,7 @@ public class MultipartBox extends Box {
 	public MultipartBox(String name) {
 		super(name);
 		this._fileItems = new ArrayList<FileItem>();
+		this._uploadedFiles = new ArrayList<UploadedFile>();
 	}
 
 	/**
@@ -60,31 +73,70 @@ public class MultipartBox extends Box {
 				} catch (IllegalArgumentException e) {
 				}
 				ServletFileUpload upload = new ServletFileUpload(factory);
-				try {
-					upload.setSizeMax(getConfig().getInt("fileupload.sizeMax"));
-				} catch (IllegalArgumentException e) {
-				}
+				setSizeLimit(upload);
 				List<FileItem> items = upload.parseRequest(request);
+				String encoding = getCharacterEncoding(request);
+				Map<String, List<String>> fields = new LinkedHashMap<String, List<String>>();
 				for (FileItem item : items) {
 					if (item.isFormField()) {
-						String fieldName = item.getFieldName();
-						String fieldValue = item.getString(request.getCharacterEncoding());
-						String[] oldValue = multipartBox.getArray(fieldName);
-						if (oldValue == null) {
-							multipartBox.put(fieldName, new String[] { fieldValue });
-						} else {
-							int size = oldValue.length;
-							String[] newValue = new String[size + 1];
-							for (int i = 0; i < size; i++) {
-								newValue[i] = oldValue[i];
-							}
-							newValue[size] = fieldValue;
-							multipartBox.put(fieldName, newValue);
-						}
+						addField(fields, item.getFieldName(), item.getString(encoding));
 					} else {
 						multipartBox.addFileItem(item);
 					}
 				}
+				multipartBox.putFields(fields);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+		return multipartBox;
+	}
+
+	/**
+	 * Multipart û Ʈ  óϿ Ķ ̸   ؽ̺ Ѵ.
+	 *  Ʈ ӽ̳ ޸𸮿  ʰ ϴ  handler ϸ,
+	 * ũ üũ Ÿ ޵Ǵ  Ͽ getUploadedFiles() ȸ  ִ.
+	 *  Ѱ ũ(fileupload.fileSizeMax) ü ûũ(fileupload.sizeMax)  Ÿ д  ٷ ߴѴ.
+	 *  ʵ  Ʈ տ ۵  handler  ȸ  ִ.
+	 * <br>
+	 * ex) Ʈ  Multipart Request Box ü  : MultipartBox multipartBox = MultipartBox.getMultipartBox(request, handler)
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param handler  Ʈ ó ü
+	 *
+	 * @return ûMultipartBox ü
+	 */
+	public static MultipartBox getMultipartBox(HttpServletRequest request, MultipartFileHandler handler) {
+		MultipartBox multipartBox = new MultipartBox("multipartbox");
+		for (Object obj : request.getParameterMap().keySet()) {
+			String key = (String) obj;
+			multipartBox.put(key, request.getParameterValues(key));
+		}
+		if (ServletFileUpload.isMultipartContent(request)) {
+			try {
+				ServletFileUpload upload = new ServletFileUpload();
+				setSizeLimit(upload);
+				String algorithm = getConfig().getString("fileupload.checksum", "SHA-256");
+				String encoding = getCharacterEncoding(request);
+				Map<String, List<String>> fields = new LinkedHashMap<String, List<String>>();
+				FileItemIterator iter = upload.getItemIterator(request);
+				while (iter.hasNext()) {
+					FileItemStream item = iter.next();
+					InputStream in = item.openStream();
+					try {
+						if (item.isFormField()) {
+							addField(fields, item.getFieldName(), Streams.asString(in, encoding));
+						} else if (item.getName() != null && item.getName().length() > 0) {
+							ChecksumInputStream checksumIn = new ChecksumInputStream(in, newDigest(algorithm));
+							handler.handle(item.getFieldName(), item.getName(), item.getContentType(), checksumIn);
+							checksumIn.skipRemaining();
+							multipartBox._uploadedFiles.add(new UploadedFile(item.getFieldName(), item.getName(), item.getContentType(), checksumIn.getCount(), checksumIn.getChecksum()));
+						}
+					} finally {
+						in.close();
+					}
+				}
+				multipartBox.putFields(fields);
 			} catch (Exception e) {
 				throw new RuntimeException(e);
 			}
@@ -101,7 +153,73 @@ public class MultipartBox extends Box {
 		return _fileItems;
 	}
 
+	/**
+	 * Ʈ  ó (UploadedFile) Ʈ ü Ѵ.
+	 *
+	 * @return  Ʈ ü
+	 */
+	public List<UploadedFile> getUploadedFiles() {
+		return _uploadedFiles;
+	}
+
 	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ü ûũ  Ѱ ũ  Ѵ.
+	 */
+	private static void setSizeLimit(ServletFileUpload upload) {
+		upload.setSizeMax(getConfig().getLong("fileupload.sizeMax", -1));
+		upload.setFileSizeMax(getConfig().getLong("fileupload.fileSizeMax", -1));
+	}
+
+	/**
+	 *  ʵ   ڼ Ѵ. û ڼ  FileItem  ⺻ ڼ(ISO-8859-1) Ѵ.
+	 */
+	private static String getCharacterEncoding(HttpServletRequest request) {
+		String encoding = request.getCharacterEncoding();
+		return encoding == null ? "ISO-8859-1" : encoding;
+	}
+
+	/**
+	 *  ̸  ۵  ʵ  .
+	 */
+	private static void addField(Map<String, List<String>> fields, String fieldName, String fieldValue) {
+		List<String> values = fields.get(fieldName);
+		if (values == null) {
+			values = new ArrayList<String>(1);
+			fields.put(fieldName, values);
+		}
+		values.add(fieldValue);
+	}
+
+	/**
+	 * Ƶ  ʵ  Ѵ. Ʈ ۵  ̸  ڿ ߰Ѵ.
+	 */
+	private void putFields(Map<String, List<String>> fields) {
+		for (Map.Entry<String, List<String>> entry : fields.entrySet()) {
+			List<String> values = entry.getValue();
+			String[] oldValue = getValues(entry.getKey());
+			if (oldValue != null) {
+				List<String> merged = new ArrayList<String>(oldValue.length + values.size());
+				for (String value : oldValue) {
+					merged.add(value);
+				}
+				merged.addAll(values);
+				values = merged;
+			}
+			put(entry.getKey(), values.toArray(new String[values.size()]));
+		}
+	}
+
+	/**
+	 * üũ ˰(MD5, SHA-1, SHA-256 ) MessageDigest ü Ѵ. none ̸ null Ѵ.
+	 */
+	private static MessageDigest newDigest(String algorithm) throws NoSuchAlgorithmException {
+		if ("".equals(algorithm) || "none".equalsIgnoreCase(algorithm)) {
+			return null;
+		}
+		return MessageDigest.getInstance(algorithm);
+	}
+
 	/**
 	 * Multipart Ͼε   Ʈ ߰Ѵ.
 	 *
@@ -120,4 +238,82 @@ public class MultipartBox extends Box {
 	private static Configuration getConfig() {
 		return Configuration.getInstance();
 	}
+
+	/**
+	 *  Ÿ ũ üũ ϴ Է½Ʈ̴.
+	 * handler Ʈ ݾƵ  Ÿ   ֵ close() Ѵ.
+	 */
+	private static class ChecksumInputStream extends FilterInputStream {
+		private final MessageDigest _digest;
+		private long _count = 0;
+
+		private ChecksumInputStream(InputStream in, MessageDigest digest) {
+			super(in);
+			this._digest = digest;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				_count++;
+				if (_digest != null) {
+					_digest.update((byte) b);
+				}
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				_count += read;
+				if (_digest != null) {
+					_digest.update(b, off, read);
+				}
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			byte[] buffer = new byte[(int) Math.min(8192, Math.max(1, n))];
+			long skipped = 0;
+			while (skipped < n) {
+				int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+				if (read < 0) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		private void skipRemaining() throws IOException {
+			byte[] buffer = new byte[8192];
+			while (read(buffer, 0, buffer.length) != -1) {
+			}
+		}
+
+		private long getCount() {
+			return _count;
+		}
+
+		private String getChecksum() {
+			if (_digest == null) {
+				return null;
+			}
+			return String.valueOf(Hex.encodeHex(_digest.digest()));
+		}
+	}
 }
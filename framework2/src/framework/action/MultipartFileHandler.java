@@ -0,0 +1,44 @@
+/**
+ * @(#)MultipartFileHandler.java
+ */
+package framework.action;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Ʈ  Multipart Ͼε忡  Ʈ óϴ ̴̽.
+ *  Ʈ ϴ  ȣǸ, Է½Ʈ ϴ (, NIO ä, ܺ  ) ٷ Ѵ.
+ * <br>
+ * fileName  Ŭ̾Ʈ  ̹Ƿ ("../" ) Ե  ִ. ״  ο     ̸ Ѵ.
+ * <br>
+ * ex)  丮 ϴ :
+ * <br>
+ * File file = new File(dir, UUID.randomUUID().toString());
+ * <br>
+ * FileOutputStream out = new FileOutputStream(file);
+ * <br>
+ * try {
+ * <br>
+ * out.getChannel().transferFrom(Channels.newChannel(in), 0, Long.MAX_VALUE);
+ * <br>
+ * } finally {
+ * <br>
+ * out.close();
+ * <br>
+ * }
+ */
+public interface MultipartFileHandler {
+
+	/**
+	 *  Ʈ óѴ.
+	 * Է½Ʈ ӿũ ,     Ÿ ũ üũ   ӿũ о .
+	 *
+	 * @param fieldName Ķ ̸
+	 * @param fileName Ŭ̾Ʈ  ϸ
+	 * @param contentType  Content-Type
+	 * @param in  Ÿ Է½Ʈ
+	 * @throws IOException  ó  ߻ 
+	 */
+	public void handle(String fieldName, String fileName, String contentType, InputStream in) throws IOException;
+}
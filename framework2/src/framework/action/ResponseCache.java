@@ -0,0 +1,211 @@
+/**
+ * @(#)ResponseCache.java
+ */
+package framework.action;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.cache.Cache;
+import framework.config.Configuration;
+import framework.util.CryptUtil;
+
+/**
+ * GET, HEAD û  framework.cache.Cache  ϰ  û  Action  ʰ   ϴ Ŭ̴.
+ * ĳ Ű ׼Ű, ĵ ûĶ, vary   û Ű , ׼Ű (generation)  ,
+ *   ٲٸ ش ׼Ű ĳð  ȿȭȴ.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.cache./׼Ű : ش ׼Ű  ĳϸ  ð()
+ * <br>
+ * action.cache.vary./׼Ű : ĳ Ű  û, Ű  (: header:Accept-Language,cookie:lang)
+ * <br>
+ * action.cache.maxSize : ĳ 亻 ִũ(byte) (⺻ 1048576)
+ */
+final class ResponseCache {
+	private static Log _logger = LogFactory.getLog(framework.action.ResponseCache.class);
+	private static final String _KEY_PREFIX = "framework.response.";
+	private static final String _GENERATION_PREFIX = "framework.response.generation.";
+
+	/**
+	 * , ܺο ü νϽȭ    
+	 */
+	private ResponseCache() {
+	}
+
+	/**
+	 *  ĳ  ִ û θ Ѵ. GET, HEAD û ĳѴ.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @return ĳ ɿ
+	 */
+	static boolean isCacheable(HttpServletRequest request) {
+		String method = request.getMethod();
+		return "GET".equals(method) || "HEAD".equals(method);
+	}
+
+	/**
+	 * û شϴ ĳ Ű Ѵ.
+	 *
+	 * @param route  
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @return ĳ Ű, ĳ     ȸ ߰ų     null
+	 */
+	static String getKey(ActionRoute route, HttpServletRequest request) {
+		String generation = _getGeneration(route.getKey());
+		if (generation == null) {
+			return null;
+		}
+		StringBuilder buf = new StringBuilder();
+		buf.append(route.getKey()).append('\n');
+		buf.append(generation).append('\n');
+		Object[] names = request.getParameterMap().keySet().toArray();
+		Arrays.sort(names);
+		for (Object name : names) {
+			String[] values = request.getParameterValues((String) name);
+			if (values == null) {
+				continue;
+			}
+			for (String value : values) {
+				buf.append(_encode((String) name)).append('=').append(_encode(value)).append('&');
+			}
+		}
+		for (String vary : route.getCacheVary()) {
+			buf.append('\n').append(vary).append('=').append(_nullToBlank(_getVaryValue(request, vary)));
+		}
+		return _KEY_PREFIX + CryptUtil.hashSHA1(buf.toString());
+	}
+
+	/**
+	 * ĳÿ   Ѵ. ĳ  ÿ ĳð   óѴ.
+	 *
+	 * @param key ĳ Ű
+	 * @return  ,  null
+	 */
+	static CachedResponse get(String key) {
+		try {
+			Object value = Cache.get(key);
+			if (value instanceof CachedResponse) {
+				return (CachedResponse) value;
+			}
+		} catch (Exception e) {
+			getLogger().warn("ĳø ȸ ߽ϴ. (" + key + ")", e);
+		}
+		return null;
+	}
+
+	/**
+	 *  ϴ 䰴ü Ѵ.   HEAD û   ʴ´.
+	 *
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @return  ϴ 䰴ü, HEAD û̸ null
+	 */
+	static ResponseCaptureWrapper capture(HttpServletRequest request, HttpServletResponse response) {
+		if ("HEAD".equals(request.getMethod())) {
+			return null;
+		}
+		return new ResponseCaptureWrapper(response, getConfig().getInt("action.cache.maxSize", 1024 * 1024));
+	}
+
+	/**
+	 * ϵ  ĳÿ Ѵ. ĳ   ̸  ʴ´.
+	 *
+	 * @param key ĳ Ű
+	 * @param response   䰴ü
+	 * @param seconds ð()
+	 */
+	static void put(String key, ResponseCaptureWrapper response, int seconds) {
+		CachedResponse cachedResponse = response.toCachedResponse();
+		if (cachedResponse == null) {
+			return;
+		}
+		try {
+			Cache.set(key, cachedResponse, seconds);
+		} catch (Exception e) {
+			getLogger().warn("ĳø  ߽ϴ. (" + key + ")", e);
+		}
+	}
+
+	/**
+	 * ׼Ű   ٲپ ش ׼Ű  ĳø  ȿȭѴ.
+	 *
+	 * @param actionKey ׼Ű
+	 */
+	static void invalidate(String actionKey) {
+		Cache.set(_GENERATION_PREFIX + actionKey, UUID.randomUUID().toString());
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ׼Ű   Ѵ.
+	 *    (ó ϰų ĳÿ ŵ )    ǻƳ ʵ    ϰ null  Ѵ.
+	 */
+	private static String _getGeneration(String actionKey) {
+		try {
+			Object generation = Cache.get(_GENERATION_PREFIX + actionKey);
+			if (generation == null) {
+				invalidate(actionKey);
+				return null;
+			}
+			return generation.toString();
+		} catch (Exception e) {
+			getLogger().warn("ĳ   ȸ ߽ϴ. (" + actionKey + ")", e);
+			return null;
+		}
+	}
+
+	/**
+	 * header:̸ Ǵ cookie:̸  vary  شϴ  Ѵ.
+	 */
+	private static String _getVaryValue(HttpServletRequest request, String vary) {
+		int colon = vary.indexOf(':');
+		if (colon < 0) {
+			return request.getHeader(vary);
+		}
+		String type = vary.substring(0, colon).trim();
+		String name = vary.substring(colon + 1).trim();
+		if ("cookie".equalsIgnoreCase(type)) {
+			Cookie[] cookies = request.getCookies();
+			if (cookies != null) {
+				for (Cookie cookie : cookies) {
+					if (name.equals(cookie.getName())) {
+						return cookie.getValue();
+					}
+				}
+			}
+			return null;
+		}
+		return request.getHeader(name);
+	}
+
+	private static String _encode(String value) {
+		try {
+			return URLEncoder.encode(_nullToBlank(value), "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static String _nullToBlank(String value) {
+		return value == null ? "" : value;
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static Log getLogger() {
+		return ResponseCache._logger;
+	}
+}
@@ -0,0 +1,281 @@
+/**
+ * @(#)ResponseCaptureWrapper.java
+ */
+package framework.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ *  Ŭ̾Ʈ ״ ϸ鼭 ڵ, ,  Բ ϴ 䰴ü̴.
+ * ĳÿ     ϸ, Ű ϰų 200 ̿ ڵ带 ų
+ *  ִũ⸦ Ѵ  ĳ    ǥѴ.
+ */
+final class ResponseCaptureWrapper extends HttpServletResponseWrapper {
+	private final int _maxSize;
+	private final List<String[]> _headers = new ArrayList<String[]>();
+	private int _status = HttpServletResponse.SC_OK;
+	private boolean _cacheable = true;
+	private ByteArrayOutputStream _body = new ByteArrayOutputStream(8 * 1024);
+	private ServletOutputStream _out = null;
+	private PrintWriter _writer = null;
+
+	/**
+	 * ResponseCaptureWrapper 
+	 *
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @param maxSize   ִũ(byte)
+	 */
+	ResponseCaptureWrapper(HttpServletResponse response, int maxSize) {
+		super(response);
+		this._maxSize = maxSize;
+	}
+
+	/**
+	 * ϵ  Ѵ.
+	 *
+	 * @return ϵ , ĳ   ̸ null
+	 */
+	CachedResponse toCachedResponse() {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		if (!_cacheable || _status != HttpServletResponse.SC_OK) {
+			return null;
+		}
+		return new CachedResponse(_status, getContentType(), _headers, _body.toByteArray());
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (_out == null) {
+			_out = new CaptureOutputStream(super.getOutputStream());
+		}
+		return _out;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (_writer == null) {
+			_writer = new PrintWriter(new EncodingWriter(getOutputStream(), getCharacterEncoding()));
+		}
+		return _writer;
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (_writer != null) {
+			_writer.flush();
+		}
+		super.flushBuffer();
+	}
+
+	@Override
+	public void setStatus(int status) {
+		_status = status;
+		super.setStatus(status);
+	}
+
+	@Override
+	@Deprecated
+	public void setStatus(int status, String message) {
+		_status = status;
+		super.setStatus(status, message);
+	}
+
+	@Override
+	public void sendError(int status) throws IOException {
+		_cacheable = false;
+		super.sendError(status);
+	}
+
+	@Override
+	public void sendError(int status, String message) throws IOException {
+		_cacheable = false;
+		super.sendError(status, message);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		_cacheable = false;
+		super.sendRedirect(location);
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		_cacheable = false;
+		super.addCookie(cookie);
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		_removeHeader(name);
+		_addHeader(name, value);
+		super.setHeader(name, value);
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		_addHeader(name, value);
+		super.addHeader(name, value);
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		_removeHeader(name);
+		_addHeader(name, _formatDate(date));
+		super.setDateHeader(name, date);
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		_addHeader(name, _formatDate(date));
+		super.addDateHeader(name, date);
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		_removeHeader(name);
+		_addHeader(name, String.valueOf(value));
+		super.setIntHeader(name, value);
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		_addHeader(name, String.valueOf(value));
+		super.addIntHeader(name, value);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private void _addHeader(String name, String value) {
+		if (name == null || value == null) {
+			return;
+		}
+		if ("Set-Cookie".equalsIgnoreCase(name)) {
+			_cacheable = false;
+		} else if ("Cache-Control".equalsIgnoreCase(name)) {
+			String lowerValue = value.toLowerCase();
+			if (lowerValue.indexOf("no-store") > -1 || lowerValue.indexOf("private") > -1) {
+				_cacheable = false;
+			}
+		}
+		_headers.add(new String[] { name, value });
+	}
+
+	private void _removeHeader(String name) {
+		for (Iterator<String[]> iter = _headers.iterator(); iter.hasNext();) {
+			if (iter.next()[0].equalsIgnoreCase(name)) {
+				iter.remove();
+			}
+		}
+	}
+
+	private String _formatDate(long date) {
+		SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone("GMT"));
+		return format.format(new Date(date));
+	}
+
+	private void _capture(byte[] b, int off, int len) {
+		if (_body == null) {
+			return;
+		}
+		if (_body.size() + len > _maxSize) {
+			_cacheable = false;
+			_body = null;
+			return;
+		}
+		_body.write(b, off, len);
+	}
+
+	/**
+	 *  Ŭ̾Ʈ ϸ鼭 Բ ϴ ½Ʈ̴.
+	 */
+	private class CaptureOutputStream extends ServletOutputStream {
+		private final ServletOutputStream _target;
+
+		private CaptureOutputStream(ServletOutputStream target) {
+			this._target = target;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			_target.write(b);
+			_capture(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			_target.write(b, off, len);
+			_capture(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			_target.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			_target.close();
+		}
+	}
+
+	/**
+	 * ڸ   ڵϿ ½Ʈ  Writer ̴.
+	 * forward  JSP  ̳ʰ  ݴ ڵ ۿ  Ÿ ǵ ʵ ۸  ʴ´.
+	 */
+	private static class EncodingWriter extends Writer {
+		private final OutputStream _out;
+		private final String _charset;
+		private char _highSurrogate = 0;
+
+		private EncodingWriter(OutputStream out, String charset) {
+			this._out = out;
+			this._charset = charset;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (len <= 0) {
+				return;
+			}
+			String str = new String(cbuf, off, len);
+			if (_highSurrogate != 0) {
+				str = _highSurrogate + str;
+				_highSurrogate = 0;
+			}
+			char last = str.charAt(str.length() - 1);
+			if (Character.isHighSurrogate(last)) {
+				_highSurrogate = last;
+				str = str.substring(0, str.length() - 1);
+			}
+			_out.write(str.getBytes(_charset));
+		}
+
+		@Override
+		public void flush() throws IOException {
+			_out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			_out.close();
+		}
+	}
+}
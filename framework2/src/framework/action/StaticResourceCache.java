@@ -0,0 +1,196 @@
+/**
+ * @(#)StaticResourceCache.java
+ */
+package framework.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import framework.config.Configuration;
+
+/**
+ * ׼ ε ʾ Default Servlet Ѿ  ޸𸮿 Ͽ  ϴ ĳ̴.
+ * ũⰡ    ϰ,  ʴ δ  ð  Ͽ Ͻý ȸ  404  .
+ *  ׸ ȿð  ٽ д´.
+ * <br>
+ * config.properties 
+ * <br>
+ * action.static.cache :  ִ ũ(byte), 0 ̸   (⺻ 0)
+ * <br>
+ * action.static.maxFileSize :   ִ ũ(byte) (⺻ 65536)
+ * <br>
+ * action.static.ttl :  ׸ ȿð() (⺻ 60)
+ */
+final class StaticResourceCache {
+	private static final int _MAX_NEGATIVE = 10000;
+	private final ConcurrentMap<String, Entry> _entries = new ConcurrentHashMap<String, Entry>();
+	private final AtomicLong _size = new AtomicLong();
+	private final long _maxSize;
+	private final int _maxFileSize;
+	private final long _ttl;
+
+	/**
+	 * config.properties  ĳø Ѵ.
+	 */
+	StaticResourceCache() {
+		_maxSize = getConfig().getLong("action.static.cache", 0);
+		_maxFileSize = getConfig().getInt("action.static.maxFileSize", 64 * 1024);
+		_ttl = getConfig().getLong("action.static.ttl", 60) * 1000;
+	}
+
+	/**
+	 * ĳ 뿩θ Ѵ.
+	 *
+	 * @return 뿩
+	 */
+	boolean isEnabled() {
+		return _maxSize > 0;
+	}
+
+	/**
+	 * û   ĳÿ Ѵ.
+	 * GET, HEAD ̿ û, 丮 ȣ (WEB-INF, META-INF), ũⰡ ū  ó ʴ´.
+	 *
+	 * @param context  ؽƮ
+	 * @param request HTTP Ŭ̾Ʈ ûü
+	 * @param response HTTP Ŭ̾Ʈ 䰴ü
+	 * @return  , false ̸ Default Servlet Ѱܾ Ѵ.
+	 * @throws IOException    ߻ 
+	 */
+	boolean serve(ServletContext context, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String method = request.getMethod();
+		if (!"GET".equals(method) && !"HEAD".equals(method)) {
+			return false;
+		}
+		String path = request.getServletPath();
+		if (request.getPathInfo() != null) {
+			path += request.getPathInfo();
+		}
+		String upperPath = path.toUpperCase();
+		if (path.endsWith("/") || upperPath.indexOf("WEB-INF") >= 0 || upperPath.indexOf("META-INF") >= 0 || path.indexOf("..") >= 0) {
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		Entry entry = _entries.get(path);
+		if (entry == null || entry.expires < now) {
+			entry = _load(context, path, now);
+			if (entry == null) {
+				return false;
+			}
+		}
+		if (entry.body == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return true;
+		}
+		if (entry.lastModified > 0) {
+			long ifModifiedSince = -1;
+			try {
+				ifModifiedSince = request.getDateHeader("If-Modified-Since");
+			} catch (IllegalArgumentException e) {
+			}
+			if (ifModifiedSince >= 0 && entry.lastModified / 1000 <= ifModifiedSince / 1000) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return true;
+			}
+			response.setDateHeader("Last-Modified", entry.lastModified);
+		}
+		if (entry.contentType != null) {
+			response.setContentType(entry.contentType);
+		}
+		response.setContentLength(entry.body.length);
+		if ("GET".equals(method)) {
+			response.getOutputStream().write(entry.body);
+		}
+		return true;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 *  о ĳÿ Ѵ.  ʴ δ   ׸ Ѵ.
+	 *  ʹ ũų ĳð    null  Ѵ.
+	 */
+	private Entry _load(ServletContext context, String path, long now) throws IOException {
+		URL url = context.getResource(path);
+		if (url == null) {
+			if (_entries.size() >= _MAX_NEGATIVE) {
+				_clear();
+			}
+			Entry entry = new Entry(null, null, 0, now + _ttl);
+			_put(path, entry);
+			return entry;
+		}
+		URLConnection connection = url.openConnection();
+		InputStream in = connection.getInputStream();
+		try {
+			int length = connection.getContentLength();
+			if (length < 0 || length > _maxFileSize || _size.get() + length > _maxSize) {
+				_remove(path);
+				return null;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			Entry entry = new Entry(out.toByteArray(), context.getMimeType(path), connection.getLastModified(), now + _ttl);
+			_put(path, entry);
+			return entry;
+		} finally {
+			in.close();
+		}
+	}
+
+	private void _put(String path, Entry entry) {
+		Entry prev = _entries.put(path, entry);
+		_size.addAndGet(entry.size() - (prev == null ? 0 : prev.size()));
+	}
+
+	private void _remove(String path) {
+		Entry prev = _entries.remove(path);
+		if (prev != null) {
+			_size.addAndGet(-prev.size());
+		}
+	}
+
+	private void _clear() {
+		for (String path : _entries.keySet()) {
+			_remove(path);
+		}
+	}
+
+	private Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	/**
+	 * ĳ ׸,  null ̸  ʴ ̴.
+	 */
+	private static final class Entry {
+		final byte[] body;
+		final String contentType;
+		final long lastModified;
+		final long expires;
+
+		Entry(byte[] body, String contentType, long lastModified, long expires) {
+			this.body = body;
+			this.contentType = contentType;
+			this.lastModified = lastModified;
+			this.expires = expires;
+		}
+
+		long size() {
+			return body == null ? 0 : body.length;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * @(#)UploadedFile.java
+ */
+package framework.action;
+
+import java.io.Serializable;
+
+/**
+ * Ʈ  Multipart Ͼε忡 ó    ü̴.
+ */
+public class UploadedFile implements Serializable {
+	private static final long serialVersionUID = 4187219733962383532L;
+	private final String _fieldName;
+	private final String _fileName;
+	private final String _contentType;
+	private final long _size;
+	private final String _checksum;
+
+	/**
+	 * UploadedFile 
+	 *
+	 * @param fieldName Ķ ̸
+	 * @param fileName Ŭ̾Ʈ  ϸ
+	 * @param contentType  Content-Type
+	 * @param size ũ(byte)
+	 * @param checksum  üũ(16 ڿ),    null
+	 */
+	public UploadedFile(String fieldName, String fileName, String contentType, long size, String checksum) {
+		this._fieldName = fieldName;
+		this._fileName = fileName;
+		this._contentType = contentType;
+		this._size = size;
+		this._checksum = checksum;
+	}
+
+	/**
+	 * Ķ ̸ Ѵ.
+	 *
+	 * @return Ķ ̸
+	 */
+	public String getFieldName() {
+		return _fieldName;
+	}
+
+	/**
+	 * Ŭ̾Ʈ  ϸ Ѵ.
+	 *
+	 * @return ϸ
+	 */
+	public String getFileName() {
+		return _fileName;
+	}
+
+	/**
+	 *  Content-Type Ѵ.
+	 *
+	 * @return Content-Type
+	 */
+	public String getContentType() {
+		return _contentType;
+	}
+
+	/**
+	 * ũ⸦ Ѵ.
+	 *
+	 * @return ũ(byte)
+	 */
+	public long getSize() {
+		return _size;
+	}
+
+	/**
+	 *  üũ Ѵ.
+	 *
+	 * @return üũ(16 ڿ),    null
+	 */
+	public String getChecksum() {
+		return _checksum;
+	}
+
+	@Override
+	public String toString() {
+		return "UploadedFile[" + _fieldName + "]=" + _fileName + " (" + _size + "bytes, " + _checksum + ")";
+	}
+}
@@ -40,6 +40,15 @@ public abstract class AbstractCache {
 	 */
 	public abstract long incr(String key, int by);
 
+	/**
+	 * Ű  by ŭ Ų. Ű  by  ϰ ȿð Ѵ.
+	 * @param key Ű
+	 * @param by ų 
+	 * @param seconds Ű    ȿð()
+	 * @return   
+	 */
+	public abstract long incr(String key, int by, int seconds);
+
 	/**
 	 * Ű  by ŭ ҽŲ.
 	 * @param key Ű
@@ -7,6 +7,8 @@ import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -21,13 +23,18 @@ public class Cache {
 	/**
 	 * ĳñü
 	 */
-	public static AbstractCache cache = null;
+	public static volatile AbstractCache cache = null;
 
 	/**
 	 * ĳñü ̸
 	 */
 	public static String cacheName = null;
 
+	/**
+	 * ʱȭ , ü  Ʈũ  ϹǷ (synchronized)  Ѵ.
+	 */
+	private static final Lock _initLock = new ReentrantLock();
+
 	/**
 	 * ⺻ ĳ ð (30)
 	 */
@@ -42,21 +49,31 @@ public class Cache {
 	/**
 	 * ĳ ʱȭ,  о ĳ ü Ѵ.
 	 */
-	public synchronized static void init() {
-		if (cache == null) {
-			try {
-				cache = Memcached.getInstance();
-				cacheName = "Memcached";
-			} catch (Exception e) {
+	public static void init() {
+		if (cache != null) {
+			return;
+		}
+		_initLock.lock();
+		try {
+			if (cache == null) {
+				AbstractCache instance = null;
 				try {
-					cache = Redis.getInstance();
-					cacheName = "Redis";
-				} catch (Exception e2) {
-					cache = EhCache.getInstance();
-					cacheName = "EhCache";
+					instance = Memcached.getInstance();
+					cacheName = "Memcached";
+				} catch (Exception e) {
+					try {
+						instance = Redis.getInstance();
+						cacheName = "Redis";
+					} catch (Exception e2) {
+						instance = EhCache.getInstance();
+						cacheName = "EhCache";
+					}
 				}
+				cache = instance;
+				_getLogger().info(String.format("[ %s ] init : ʱȭ ", cacheName));
 			}
-			_getLogger().info(String.format("[ %s ] init : ʱȭ ", cacheName));
+		} finally {
+			_initLock.unlock();
 		}
 	}
 
@@ -106,6 +123,19 @@ public class Cache {
 		return result;
 	}
 
+	/**
+	 * Ű  by ŭ Ų. Ű  by  ϰ ȿð Ѵ.
+	 * @param key Ű
+	 * @param by ų 
+	 * @param seconds Ű    ȿð()
+	 * @return   
+	 */
+	public static long incr(String key, int by, int seconds) {
+		long result = cache.incr(key, by, seconds);
+		_getLogger().debug(String.format("[ %s ] incr : { key=%s, by=%d, seconds=%d }", cacheName, key, by, seconds));
+		return result;
+	}
+
 	/**
 	 * Ű  1ŭ ҽŲ.
 	 * @param key Ű
@@ -78,29 +78,28 @@ public class EhCache extends AbstractCache {
 	}
 
 	@Override
-	public synchronized long incr(String key, int by) {
-		Element e = _cache.get(key);
-		if (e == null) {
-			return -1;
-		}
-		long newValue = ((Number) e.getObjectValue()).longValue() + by;
-		Element newE = new Element(key, newValue);
-		newE.setTimeToLive(e.getTimeToLive());
-		_cache.put(newE);
-		return newValue;
+	public long incr(String key, int by) {
+		return _add(key, by);
 	}
 
 	@Override
-	public synchronized long decr(String key, int by) {
-		Element e = _cache.get(key);
-		if (e == null) {
-			return -1;
+	public long incr(String key, int by, int seconds) {
+		while (true) {
+			long value = _add(key, by);
+			if (value != -1) {
+				return value;
+			}
+			Element e = new Element(key, Long.valueOf(by));
+			e.setTimeToLive(seconds);
+			if (_cache.putIfAbsent(e) == null) {
+				return by;
+			}
 		}
-		long newValue = ((Number) e.getObjectValue()).longValue() - by;
-		Element newE = new Element(key, newValue);
-		newE.setTimeToLive(e.getTimeToLive());
-		_cache.put(newE);
-		return newValue;
+	}
+
+	@Override
+	public long decr(String key, int by) {
+		return _add(key, -by);
 	}
 
 	@Override
@@ -112,4 +111,28 @@ public class EhCache extends AbstractCache {
 	public void clear() {
 		_cache.removeAll();
 	}
+
+	////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+
+	/**
+	 * Ű  delta ŭ Ѵ.
+	 *    compare-and-set(replace)  ϹǷ ս õϸ 带 ŷ ʴ´.
+	 * @param key Ű
+	 * @param delta  
+	 * @return   , Ű  -1
+	 */
+	private long _add(String key, long delta) {
+		while (true) {
+			Element e = _cache.get(key);
+			if (e == null) {
+				return -1;
+			}
+			long newValue = ((Number) e.getObjectValue()).longValue() + delta;
+			Element newE = new Element(key, newValue);
+			newE.setTimeToLive(e.getTimeToLive());
+			if (_cache.replace(e, newE)) {
+				return newValue;
+			}
+		}
+	}
 }
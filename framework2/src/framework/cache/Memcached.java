@@ -92,6 +92,11 @@ public class Memcached extends AbstractCache {
 		return _client.incr(key, by, 0);
 	}
 
+	@Override
+	public long incr(String key, int by, int seconds) {
+		return _client.incr(key, by, by, seconds);
+	}
+
 	@Override
 	public long decr(String key, int by) {
 		return _client.decr(key, by, 0);
@@ -8,6 +8,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,9 +17,12 @@ import framework.config.Configuration;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ShardedJedis;
 import redis.clients.jedis.ShardedJedisPool;
+import redis.clients.jedis.Transaction;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 /**
  * Redis ĳ ü (http://redis.io/)
@@ -34,6 +38,11 @@ public class Redis extends AbstractCache {
 	 */
 	private static final int _TIMEOUT = 500;
 
+	/**
+	 * Ű   ȿð ϸ  Ű ũƮ, INCRBY  EXPIRE   Ѵ.
+	 */
+	private static final byte[] _INCR_SCRIPT = "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) if v == tonumber(ARGV[1]) then redis.call('EXPIRE', KEYS[1], ARGV[2]) end return v".getBytes();
+
 	/**
 	 * ĳ Ŭ̾Ʈ Pool
 	 */
@@ -143,6 +152,53 @@ public class Redis extends AbstractCache {
 		return value;
 	}
 
+	@Override
+	public long incr(String key, int by, int seconds) {
+		return incr(_serialize(key), by, seconds);
+	}
+
+	/**
+	 * Ű  by ŭ Ų. Ű  by  ϰ ȿð Ѵ.
+	 *  ȿð  Lua ũƮ  ϹǷ ߰    ʴ Ű  ʴ´.
+	 * ũƮ  ʴ (2.6 ̸) MULTI/EXEC    ȿð ٽ Ѵ.
+	 * @param key Ű
+	 * @param by ų 
+	 * @param seconds Ű    ȿð()
+	 * @return   
+	 */
+	public long incr(byte[] key, int by, int seconds) {
+		ShardedJedis jedis = null;
+		Long value = null;
+		try {
+			jedis = _pool.getResource();
+			Jedis shard = jedis.getShard(key);
+			List<byte[]> args = new ArrayList<byte[]>(2);
+			args.add(String.valueOf(by).getBytes());
+			args.add(String.valueOf(seconds).getBytes());
+			try {
+				value = (Long) shard.eval(_INCR_SCRIPT, Collections.singletonList(key), args);
+			} catch (JedisDataException e) {
+				Transaction tx = shard.multi();
+				Response<Long> result = tx.incrBy(key, by);
+				tx.expire(key, seconds);
+				tx.exec();
+				value = result.get();
+			}
+		} catch (JedisConnectionException e) {
+			if (jedis != null) {
+				_pool.returnBrokenResource(jedis);
+			}
+		} finally {
+			if (jedis != null) {
+				_pool.returnResource(jedis);
+			}
+		}
+		if (value == null) {
+			value = Long.valueOf(-1);
+		}
+		return value;
+	}
+
 	@Override
 	public long decr(String key, int by) {
 		return decr(_serialize(key), by);
@@ -4,24 +4,42 @@
  */
 package framework.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
 import java.util.MissingResourceException;
+import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 /**
  * (config.properties)  о Ŭ̴.
  * ̱  Ͽ ϴ ü νϽ  Ѱ  ȴ.
+ * ü    , reload() ޼ҵ  ü  üϹǷ д ʿ  ʿ.
+ * ⺻  ޴ ޼ҵ Ű  ܸ  ʰ ٷ ⺻  ϹǷ û ȣص ȴ.
  */
 public class Configuration {
-	private static Configuration _uniqueInstance = new Configuration();
+	private static Log _logger = LogFactory.getLog(framework.config.Configuration.class);
 	private static final String _baseName = "config";
-	private ResourceBundle _bundle = null;
+	private static volatile Configuration _uniqueInstance = new Configuration();
+	private final ResourceBundle _bundle;
 
 	private Configuration() {
+		ResourceBundle bundle = null;
 		try {
-			_bundle = ResourceBundle.getBundle(_baseName);
+			bundle = ResourceBundle.getBundle(_baseName);
 		} catch (MissingResourceException e) {
 			e.printStackTrace();
 		}
+		this._bundle = bundle;
+	}
+
+	private Configuration(ResourceBundle bundle) {
+		this._bundle = bundle;
 	}
 
 	/**
@@ -33,6 +51,56 @@ public class Configuration {
 		return _uniqueInstance;
 	}
 
+	/**
+	 * (config.properties) ٽ о  ü üѴ.
+	 *    ų  ߸ 쿡  ü ״ Ѵ.
+	 *
+	 * @return ü 
+	 */
+	public static boolean reload() {
+		URL url = getResource();
+		if (url == null) {
+			getLogger().error(" ã  ϴ. (" + _baseName + ".properties)");
+			return false;
+		}
+		try {
+			_uniqueInstance = new Configuration(loadBundle(url));
+			getLogger().info(" ٽ оϴ. (" + url + ")");
+			return true;
+		} catch (Exception e) {
+			getLogger().error(" ùٸ ʾ   մϴ. (" + url + ")", e);
+			return false;
+		}
+	}
+
+	/**
+	 * Ŭн (config.properties) ġ Ѵ.
+	 *
+	 * @return  URL, ã   null
+	 */
+	public static URL getResource() {
+		return Configuration.class.getClassLoader().getResource(_baseName + ".properties");
+	}
+
+	/**
+	 * URL Ƽ  о ҽ  Ѵ.
+	 * ResourceBundle.getBundle() ĳø ġ Ƿ ׻    д´.
+	 *
+	 * @param url Ƽ  URL
+	 * @return ҽ 
+	 * @throws IOException    ų  ߸ 
+	 */
+	public static ResourceBundle loadBundle(URL url) throws IOException {
+		InputStream in = url.openStream();
+		try {
+			return new PropertyResourceBundle(in);
+		} catch (IllegalArgumentException e) {
+			throw new IOException(url + " : " + e.getMessage());
+		} finally {
+			in.close();
+		}
+	}
+
 	/**
 	 * Ű(key)ڿ εǾ ִ String Ѵ.
 	 *
@@ -61,6 +129,26 @@ public class Configuration {
 		return value;
 	}
 
+	/**
+	 * Ű(key)ڿ εǾ ִ boolean  Ѵ.
+	 * Ű  ⺻  Ѵ.
+	 *
+	 * @param key  ã  Ű ڿ
+	 * @param defaultValue     ⺻ 
+	 *
+	 * @return key εǾ ִ boolean  Ǵ ⺻ 
+	 */
+	public boolean getBoolean(String key, boolean defaultValue) {
+		if (!containsKey(key)) {
+			return defaultValue;
+		}
+		try {
+			return getBoolean(key);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Ű(key)ڿ εǾ ִ int  Ѵ.
 	 *
@@ -78,6 +166,46 @@ public class Configuration {
 		return value;
 	}
 
+	/**
+	 * Ű(key)ڿ εǾ ִ int  Ѵ.
+	 * Ű ų  ƴϸ ⺻  Ѵ.
+	 *
+	 * @param key  ã  Ű ڿ
+	 * @param defaultValue     ⺻ 
+	 *
+	 * @return key εǾ ִ int  Ǵ ⺻ 
+	 */
+	public int getInt(String key, int defaultValue) {
+		if (!containsKey(key)) {
+			return defaultValue;
+		}
+		try {
+			return getInt(key);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Ű(key)ڿ εǾ ִ long  Ѵ.
+	 * Ű ų  ƴϸ ⺻  Ѵ.
+	 *
+	 * @param key  ã  Ű ڿ
+	 * @param defaultValue     ⺻ 
+	 *
+	 * @return key εǾ ִ long  Ǵ ⺻ 
+	 */
+	public long getLong(String key, long defaultValue) {
+		if (!containsKey(key)) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(_bundle.getString(key).trim());
+		} catch (Exception e) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Ű(key)ڿ εǾ ִ String Ѵ.
 	 *
@@ -95,6 +223,26 @@ public class Configuration {
 		return value;
 	}
 
+	/**
+	 * Ű(key)ڿ εǾ ִ String Ѵ.
+	 * Ű  ⺻  Ѵ.
+	 *
+	 * @param key  ã  Ű ڿ
+	 * @param defaultValue     ⺻ 
+	 *
+	 * @return key εǾ ִ String ü Ǵ ⺻ 
+	 */
+	public String getString(String key, String defaultValue) {
+		if (!containsKey(key)) {
+			return defaultValue;
+		}
+		try {
+			return getString(key);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Ű(key) ԵǾִ θ Ѵ.
 	 *
@@ -103,6 +251,23 @@ public class Configuration {
 	 * @return key Կ
 	 */
 	public boolean containsKey(String key) {
-		return _bundle.containsKey(key);
+		return _bundle != null && _bundle.containsKey(key);
+	}
+
+	/**
+	 * Ͽ ϵ  Ű Ѵ.
+	 *
+	 * @return Ű ڿ Set
+	 */
+	public Set<String> keySet() {
+		if (_bundle == null) {
+			return Collections.emptySet();
+		}
+		return _bundle.keySet();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static Log getLogger() {
+		return Configuration._logger;
 	}
 }
\ No newline at end of file
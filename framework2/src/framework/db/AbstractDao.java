@@ -53,8 +53,12 @@ public abstract class AbstractDao {
 			}
 			SQLPreparedStatement pstmt = getConnectionManager().createPrepareStatement(query);
 			pstmt.set(values);
-			result = pstmt.executeUpdate();
-			pstmt.close();
+			try {
+				result = pstmt.executeUpdate();
+				pstmt.close();
+			} finally {
+				_tableWritten(query);
+			}
 		} catch (Exception e) {
 			getLogger().error("execute Error!");
 			throw e;
@@ -93,12 +97,17 @@ public abstract class AbstractDao {
 			values = vo.get(type);
 			if (values == null || values.length < 1)
 				return 0;
-			SQLPreparedStatement pstmt = getConnectionManager().createPrepareStatement(getSaveSql(type, vo.getUserKeys(), vo.getUserFields()));
-			for (int i = 0; i < values.length; i++) {
-				pstmt.set(getSaveValue(values[i], type, vo.getUserKeys(), vo.getUserFields()));
-				result[cnt++] = pstmt.executeUpdate();
+			String sql = getSaveSql(type, vo.getUserKeys(), vo.getUserFields());
+			SQLPreparedStatement pstmt = getConnectionManager().createPrepareStatement(sql);
+			try {
+				for (int i = 0; i < values.length; i++) {
+					pstmt.set(getSaveValue(values[i], type, vo.getUserKeys(), vo.getUserFields()));
+					result[cnt++] = pstmt.executeUpdate();
+				}
+				pstmt.close();
+			} finally {
+				_tableWritten(sql);
 			}
-			pstmt.close();
 		} catch (Exception e) {
 			getLogger().error("executeArray Error!");
 			throw e;
@@ -166,6 +175,16 @@ public abstract class AbstractDao {
 		return AbstractDao._logger;
 	}
 
+	/**
+	 *  ĳø ϸ    ̺ д  ĳø ȿȭѴ.
+	 * Ϻ row ݿǰ  쿡 ȿȭǵ finally  ȣѴ.
+	 */
+	private void _tableWritten(String query) {
+		if (QueryCache.isEnabled()) {
+			getConnectionManager().tableWritten(QueryCache.getWriteTable(query));
+		}
+	}
+
 	public abstract String getInsertSql();
 
 	public abstract String getUpdateSql();
@@ -0,0 +1,173 @@
+/**
+ * @(#)AdaptiveFetch.java
+ */
+package framework.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import framework.config.Configuration;
+
+/**
+ *  д   row ũ⿡  ResultSet  fetch size  ÷ Ŭ̴.
+ *  fetch size ŭ   ǥ row  ũ ޸  ȿ   ִ row  ϰ,
+ * ѹ ι fetch size  ø. 뷮 ȸ Ʈũ պ Ƚ ̱  Ѵ.
+ * <br>
+ * jdbc.fetchSize.adaptive :   (⺻ false)
+ * <br>
+ * jdbc.fetchSize.max : ִ fetch size (⺻ 5000)
+ * <br>
+ * jdbc.fetchSize.memoryBudget : ѹ  row  ִ ޸(byte) (⺻ 4194304)
+ * <br>
+ *  Configuration νϽ ѹ ,  ٽ εǸ  д´.
+ */
+final class AdaptiveFetch {
+	// 16 row  ѹ row ũ⸦ Ѵ.
+	private static final int SAMPLE_MASK = 15;
+	private static volatile Settings _settings = null;
+	private final ResultSet _rs;
+	private final int _max;
+	private final long _budget;
+	private int _fetchSize;
+	private int _rows = 0;
+	private int _nextCheck;
+	private long _bytes = 0;
+	private int _samples = 0;
+
+	private AdaptiveFetch(ResultSet rs, int fetchSize, int max, long budget) {
+		this._rs = rs;
+		this._fetchSize = fetchSize;
+		this._max = max;
+		this._budget = budget;
+		this._nextCheck = fetchSize;
+	}
+
+	/**
+	 *   AdaptiveFetch ü Ѵ.
+	 *
+	 * @param rs  
+	 * @return AdaptiveFetch ü,  ʵ   null
+	 */
+	static AdaptiveFetch create(ResultSet rs) {
+		Settings settings = settings();
+		if (!settings._adaptive) {
+			return null;
+		}
+		int fetchSize;
+		try {
+			fetchSize = rs.getFetchSize();
+		} catch (SQLException e) {
+			return null;
+		}
+		if (fetchSize <= 0) {
+			fetchSize = settings._fetchSize;
+		}
+		return new AdaptiveFetch(rs, fetchSize, settings._max, settings._budget);
+	}
+
+	/**
+	 *  ⺻ fetch size  Ѵ.
+	 * jdbc.&lt;serviceName&gt;.fetchSize   jdbc.fetchSize (⺻ 100)  Ѵ.
+	 *
+	 * @param serviceName 񽺸, null ̸ jdbc.fetchSize
+	 * @return fetch size
+	 */
+	static int getDefaultFetchSize(String serviceName) {
+		Settings settings = settings();
+		if (serviceName == null) {
+			return settings._fetchSize;
+		}
+		Integer fetchSize = settings._services.get(serviceName);
+		if (fetchSize == null) {
+			fetchSize = Integer.valueOf(settings._config.getInt("jdbc." + serviceName + ".fetchSize", settings._fetchSize));
+			settings._services.putIfAbsent(serviceName, fetchSize);
+		}
+		return fetchSize.intValue();
+	}
+
+	/**
+	 *  row ũ⸦ ؾ ϴ 
+	 *
+	 * @return ؾ ϸ true
+	 */
+	boolean isSampleRow() {
+		return (_rows & SAMPLE_MASK) == 0;
+	}
+
+	/**
+	 *  row ũ⸦ Ѵ.
+	 *
+	 * @param bytes row ũ(byte)
+	 */
+	void sample(long bytes) {
+		_bytes += bytes;
+		_samples++;
+	}
+
+	/**
+	 * row ϳ о ˸.  fetch size ŭ о fetch size  ٽ Ѵ.
+	 */
+	void rowRead() {
+		_rows++;
+		if (_rows < _nextCheck || _samples == 0) {
+			return;
+		}
+		long width = Math.max(1, _bytes / _samples);
+		long target = Math.min(_max, _budget / width);
+		int next = (int) Math.min(target, (long) _fetchSize * 2);
+		if (next > _fetchSize) {
+			try {
+				_rs.setFetchSize(next);
+				_fetchSize = next;
+			} catch (SQLException e) {
+				// ̹     ̻  ʴ´.
+				_nextCheck = Integer.MAX_VALUE;
+				return;
+			}
+		}
+		_nextCheck = _rows + _fetchSize;
+	}
+
+	/**
+	 *  fetch size  Ѵ.
+	 *
+	 * @return fetch size
+	 */
+	int getFetchSize() {
+		return _fetchSize;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static Settings settings() {
+		Configuration config = getConfig();
+		Settings settings = _settings;
+		if (settings == null || settings._config != config) {
+			settings = new Settings(config);
+			_settings = settings;
+		}
+		return settings;
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static final class Settings {
+		private final Configuration _config;
+		private final boolean _adaptive;
+		private final int _fetchSize;
+		private final int _max;
+		private final long _budget;
+		private final ConcurrentMap<String, Integer> _services = new ConcurrentHashMap<String, Integer>();
+
+		private Settings(Configuration config) {
+			this._config = config;
+			this._adaptive = config.getBoolean("jdbc.fetchSize.adaptive", false);
+			this._fetchSize = config.getInt("jdbc.fetchSize", 100);
+			this._max = config.getInt("jdbc.fetchSize.max", 5000);
+			this._budget = config.getLong("jdbc.fetchSize.memoryBudget", 4194304);
+		}
+	}
+}
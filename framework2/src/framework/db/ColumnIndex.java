@@ -0,0 +1,143 @@
+/**
+ * @(#)ColumnIndex.java
+ */
+package framework.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *   ÷ ÷ ġ    Ұ Ŭ̴.
+ *  ÷   RecordSet  ϳ ColumnIndex  Ѵ.
+ *  DAO   ѹ indexesOf()  ÷ ġ   RecordSet  ġ  ޼ҵ  д´.
+ * ÷ ġ 0 Ѵ.
+ */
+public final class ColumnIndex {
+	//  ִ ColumnIndex ,   .
+	private static final int MAX_SHARED = 1024;
+	private static final ConcurrentMap<String, ColumnIndex> _shared = new ConcurrentHashMap<String, ColumnIndex>();
+	private final String[] _names;
+	private final Map<String, Integer> _positions;
+	//  indexesOf()  ޵ ÷ 迭  
+	private volatile Resolved _resolved = null;
+
+	private ColumnIndex(String[] names) {
+		this._names = names.clone();
+		Map<String, Integer> positions = new HashMap<String, Integer>();
+		//  ̸ ÷  ̸  ÷ Ѵ.
+		for (int i = names.length - 1; i >= 0; i--) {
+			positions.put(names[i], Integer.valueOf(i));
+		}
+		this._positions = positions;
+	}
+
+	/**
+	 * ÷ 迭 شϴ ColumnIndex  Ѵ.  ÷ 迭̸   ü Ѵ.
+	 *
+	 * @param names ÷ 迭
+	 * @return ColumnIndex ü
+	 */
+	public static ColumnIndex of(String[] names) {
+		StringBuilder key = new StringBuilder();
+		for (String name : names) {
+			key.append(name).append('\u0000');
+		}
+		ColumnIndex index = _shared.get(key.toString());
+		if (index == null) {
+			if (_shared.size() >= MAX_SHARED) {
+				_shared.clear();
+			}
+			index = new ColumnIndex(names);
+			ColumnIndex prev = _shared.putIfAbsent(key.toString(), index);
+			if (prev != null) {
+				index = prev;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * ÷ ġ Ѵ.  ̸  빮ڷ ȯϿ ٽ ã´.
+	 *
+	 * @param name ÷
+	 * @return ÷ ġ, ù° ÷ 0, ã ϸ -1
+	 */
+	public int indexOf(String name) {
+		if (name == null) {
+			return -1;
+		}
+		Integer position = _positions.get(name);
+		if (position == null) {
+			position = _positions.get(name.toUpperCase());
+		}
+		return position == null ? -1 : position.intValue();
+	}
+
+	/**
+	 *  ÷ ġ ѹ Ѵ.
+	 *  ȣ  迭 ü ϸ ٽ  ʰ   ֹǷ row ȣص ȴ.
+	 *  迭  ʾƾ Ѵ.
+	 *
+	 * @param names ÷ 迭
+	 * @return ÷ ġ 迭, ã  ÷ -1
+	 */
+	public int[] indexesOf(String[] names) {
+		Resolved resolved = _resolved;
+		if (resolved != null && resolved.names == names) {
+			return resolved.indexes;
+		}
+		int[] indexes = new int[names.length];
+		for (int i = 0; i < names.length; i++) {
+			indexes[i] = indexOf(names[i]);
+		}
+		_resolved = new Resolved(names, indexes);
+		return indexes;
+	}
+
+	/**
+	 * ÷  Ѵ.
+	 *
+	 * @return ÷ 
+	 */
+	public int getColumnCount() {
+		return _names.length;
+	}
+
+	/**
+	 * ÷ Ѵ.
+	 *
+	 * @param index ÷ ġ, ù° ÷ 0
+	 * @return ÷
+	 */
+	public String getColumnName(int index) {
+		return _names[index];
+	}
+
+	/**
+	 * ҹڸ Ͽ ÷ ġ Ѵ.
+	 */
+	int exactIndexOf(Object name) {
+		Integer position = _positions.get(name);
+		return position == null ? -1 : position.intValue();
+	}
+
+	/**
+	 *  ٸ ÷ 
+	 */
+	int distinctCount() {
+		return _positions.size();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static final class Resolved {
+		private final String[] names;
+		private final int[] indexes;
+
+		private Resolved(String[] names, int[] indexes) {
+			this.names = names;
+			this.indexes = indexes;
+		}
+	}
+}
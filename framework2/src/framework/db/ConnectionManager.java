@@ -5,42 +5,47 @@
 package framework.db;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import javax.naming.InitialContext;
 import javax.sql.DataSource;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 public class ConnectionManager {
-	private static Map<String, DataSource> _dsMap = new HashMap<String, DataSource>();
+	private static ConcurrentMap<String, Boolean> _drivers = new ConcurrentHashMap<String, Boolean>();
 	private static Log _logger = LogFactory.getLog(framework.db.ConnectionManager.class);
 	private List<DBStatement> _stmtList = null;
 	private String _dsName = null;
+	private DataSource _dataSource = null;
 	private Object _caller = null;
 	private Connection _connection = null;
+	private int _dialect = -1;
+	private int _fetchSize = 0;
+	private Set<String> _writtenTables = null;
+	private String _cacheScope = null;
 
 	public ConnectionManager(String dsName, Object caller) {
 		this._dsName = dsName;
 		this._caller = caller;
+		this._fetchSize = AdaptiveFetch.getDefaultFetchSize(null);
 		if (_stmtList == null) {
 			_stmtList = new ArrayList<DBStatement>();
 		}
 		if (dsName != null) {
 			try {
-				if (_dsMap.get(dsName) == null) {
-					InitialContext ctx = new InitialContext();
-					DataSource ds = (DataSource) ctx.lookup(dsName);
-					_dsMap.put(dsName, ds);
-				}
-			} catch (Exception e) {
+				_dataSource = DataSourceRegistry.getDataSource(dsName);
+			} catch (SQLException e) {
 				throw new RuntimeException(e.getMessage());
 			}
 		}
@@ -72,18 +77,31 @@ public class ConnectionManager {
 
 	public void commit() throws SQLException {
 		getConnection().commit();
+		if (_writtenTables != null && !_writtenTables.isEmpty()) {
+			QueryCache.invalidate(getCacheScope(), _writtenTables);
+			_writtenTables.clear();
+		}
 	}
 
 	public void connect() throws Exception {
-		setConnection(_dsMap.get(_dsName).getConnection());
+		setConnection(_dataSource.getConnection());
+		this._cacheScope = _dsName;
 		if (getLogger().isDebugEnabled()) {
 			getLogger().debug("DB !: " + _dsName);
 		}
 	}
 
 	public void connect(String jdbcDriver, String url, String userID, String userPW) throws Exception {
-		DriverManager.registerDriver((Driver) Class.forName(jdbcDriver).newInstance());
-		setConnection(DriverManager.getConnection(url, userID, userPW));
+		if (!_drivers.containsKey(jdbcDriver)) {
+			DriverManager.registerDriver((Driver) Class.forName(jdbcDriver).newInstance());
+			_drivers.putIfAbsent(jdbcDriver, Boolean.TRUE);
+		}
+		if (ConnectionPool.isEnabled()) {
+			setConnection(ConnectionPool.getPool(url, userID, userPW).getConnection(_caller));
+		} else {
+			setConnection(DriverManager.getConnection(url, userID, userPW));
+		}
+		this._cacheScope = url + "|" + userID;
 		if (getLogger().isDebugEnabled()) {
 			getLogger().debug("DB !: " + url);
 		}
@@ -95,9 +113,101 @@ public class ConnectionManager {
 
 	public void setConnection(Connection conn) {
 		this._connection = conn;
+		this._dialect = -1;
+		this._writtenTables = null;
+		this._cacheScope = null;
+	}
+
+	/**
+	 *  ⺻ fetch size  Ѵ.
+	 * config.properties  jdbc.&lt;serviceName&gt;.fetchSize   jdbc.fetchSize (⺻ 100)  Ѵ.
+	 *
+	 * @param serviceName 񽺸
+	 * @return fetch size
+	 */
+	public static int getDefaultFetchSize(String serviceName) {
+		return AdaptiveFetch.getDefaultFetchSize(serviceName);
+	}
+
+	/**
+	 *  ؼ ڰ ϴ  ⺻ fetch size  Ѵ.
+	 *
+	 * @return fetch size
+	 */
+	public int getFetchSize() {
+		return _fetchSize;
+	}
+
+	/**
+	 *  ؼ ڰ Ŀ ϴ  ⺻ fetch size  Ѵ.
+	 * ⺻ config.properties  jdbc.fetchSize (⺻ 100) ̴.
+	 *
+	 * @param fetchSize Ÿ̽ ѹ  row 
+	 */
+	public void setFetchSize(int fetchSize) {
+		this._fetchSize = fetchSize;
+	}
+
+	/**
+	 *  ؼ ¡   Ѵ.
+	 *
+	 * @return Pagination  Ÿ̽  
+	 */
+	int getDialect() {
+		if (_dialect == -1) {
+			_dialect = Pagination.dialect(getConnection());
+		}
+		return _dialect;
+	}
+
+	/**
+	 *  ĳ Ÿҽ  Ѵ.
+	 * Ÿҽ   Ÿҽ, jdbc url    url  ̸,
+	 * setConnection()   ؼ DatabaseMetaData  url  ڸ Ѵ.
+	 *
+	 * @return Ÿҽ ,    null
+	 */
+	String getCacheScope() {
+		if (_cacheScope == null && getConnection() != null) {
+			try {
+				DatabaseMetaData meta = getConnection().getMetaData();
+				if (meta.getURL() != null) {
+					_cacheScope = meta.getURL() + "|" + meta.getUserName();
+				}
+			} catch (SQLException e) {
+				return null;
+			}
+		}
+		return _cacheScope;
+	}
+
+	/**
+	 * ̺ ⸦  ˷ ش ̺ д  ĳø ȿȭѴ.
+	 * ڵĿ ƴϸ Ŀ  ٸ ؼ  Ÿ ٽ ĳ  Ƿ Ŀ  ѹ  ȿȭѴ.
+	 *
+	 * @param table ̺,    null (  ĳø ȿȭ)
+	 */
+	void tableWritten(String table) {
+		QueryCache.invalidate(getCacheScope(), Collections.singleton(table));
+		if (!_isAutoCommit()) {
+			if (_writtenTables == null) {
+				_writtenTables = new HashSet<String>();
+			}
+			_writtenTables.add(table);
+		}
+	}
+
+	/**
+	 * Ŀ  Ⱑ ִ θ Ѵ. Ŀ  Ÿ  ĳÿ  ʵ   Ѵ.
+	 *
+	 * @return Ŀ  Ⱑ  true
+	 */
+	boolean hasUncommittedWrites() {
+		return _writtenTables != null && !_writtenTables.isEmpty();
 	}
 
 	public void release() {
+		_writtenTables = null;
 		if (_stmtList != null) {
 			for (DBStatement stmt : _stmtList) {
 				try {
@@ -129,6 +239,7 @@ public class ConnectionManager {
 	}
 
 	public void rollback() {
+		_writtenTables = null;
 		try {
 			getConnection().rollback();
 		} catch (SQLException e) {
@@ -142,6 +253,14 @@ public class ConnectionManager {
 		}
 	}
 
+	private boolean _isAutoCommit() {
+		try {
+			return getConnection() == null || getConnection().getAutoCommit();
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
 	private Log getLogger() {
 		return ConnectionManager._logger;
 	}
@@ -0,0 +1,615 @@
+/**
+ * @(#)ConnectionPool.java
+ */
+package framework.db;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+
+import framework.config.Configuration;
+import framework.util.CryptUtil;
+
+/**
+ * Ÿҽ(JNDI)  ʴ  DriverManager  ؼ ϱ  ؼǮ̴.
+ * jdbc url, , н庰 ϳ Ǯ Ǹ, Ǯ  ؼ close() ޼ҵ  ؼ  ʰ Ǯ ȯѴ.
+ *  ٽ о н尡 ٲ  Ǯ ϰ  н Ǯ ,  Ǯ  ؼ ȯ  Ѵ.
+ * ȯ ؼ ڰ   Statement(  ResultSet) ݰ ѹ  autoCommit ¸ ϸ, ִ  ų   ؼ Ѵ.
+ * Ǯ ´ JMX(framework:type=ConnectionPool) ȸ  ִ.
+ * <br>
+ * config.properties 
+ * <br>
+ * jdbc.pool.enabled : ؼǮ 뿩 (⺻ true)
+ * <br>
+ * jdbc.pool.maxActive : ִ ؼ  (⺻ 20)
+ * <br>
+ * jdbc.pool.minIdle : ּ  ؼ  (⺻ 0)
+ * <br>
+ * jdbc.pool.maxWait : ؼ   ִ ð(ms) (⺻ 5000)
+ * <br>
+ * jdbc.pool.testOnBorrow :   ؼ ,  500ms ̳  ؼ   (⺻ true)
+ * <br>
+ * jdbc.pool.testWhileIdle :  ؼ  (⺻ true)
+ * <br>
+ * jdbc.pool.evictionInterval :  ؼ  ֱ(ms) (⺻ 30000)
+ * <br>
+ * jdbc.pool.maxLifetime :  ؼ ִ (ms), 0 ̸   (⺻ 1800000)
+ * <br>
+ * jdbc.pool.validationQuery :   ,   Connection.isValid()  (: select 1 from dual)
+ * <br>
+ * jdbc.pool.leakDetectionThreshold :  ð(ms)  ȯ  ؼ ó Բ , 0 ̸   (⺻ 0)
+ * <br>
+ * jdbc.pool.statementCacheSize : ؼǸ  PreparedStatement ִ , 0 ̸   (⺻ 50)
+ */
+public final class ConnectionPool implements ConnectionPoolMBean {
+	private static Log _logger = LogFactory.getLog(framework.db.ConnectionPool.class);
+	private static final ConcurrentMap<String, ConnectionPool> _pools = new ConcurrentHashMap<String, ConnectionPool>();
+	private static final long _VALIDATION_SKIP_MILLIS = 500;
+	private static final int _STATEMENT_PURGE_SIZE = 100;
+	private static Timer _leakTimer = null;
+	private static volatile Enabled _enabled = null;
+	private final String _url;
+	private final String _userID;
+	private final String _userPW;
+	private final GenericObjectPool<PooledConnection> _pool;
+	private final ConcurrentMap<PooledConnection, Boolean> _borrowed = new ConcurrentHashMap<PooledConnection, Boolean>();
+	private final long _maxLifetime;
+	private final long _leakThreshold;
+	private final String _validationQuery;
+	private final AtomicLong _borrowCount = new AtomicLong();
+	private final AtomicLong _waitNanos = new AtomicLong();
+	private final AtomicLong _timeoutCount = new AtomicLong();
+	private final AtomicLong _createdCount = new AtomicLong();
+	private final AtomicLong _destroyedCount = new AtomicLong();
+	private final AtomicLong _leakCount = new AtomicLong();
+	private final AtomicLong _statementHits = new AtomicLong();
+	private final AtomicLong _statementMisses = new AtomicLong();
+	private final int _statementCacheSize;
+	private ObjectName _objectName = null;
+	private TimerTask _leakTask = null;
+
+	private ConnectionPool(String url, String userID, String userPW) {
+		this._url = url;
+		this._userID = userID;
+		this._userPW = userPW;
+		this._maxLifetime = getConfig().getLong("jdbc.pool.maxLifetime", 30 * 60 * 1000L);
+		this._leakThreshold = getConfig().getLong("jdbc.pool.leakDetectionThreshold", 0);
+		this._validationQuery = getConfig().getString("jdbc.pool.validationQuery", null);
+		this._statementCacheSize = getConfig().getInt("jdbc.pool.statementCacheSize", 50);
+		GenericObjectPool.Config config = new GenericObjectPool.Config();
+		config.maxActive = getConfig().getInt("jdbc.pool.maxActive", 20);
+		config.maxIdle = config.maxActive;
+		config.minIdle = getConfig().getInt("jdbc.pool.minIdle", 0);
+		config.maxWait = getConfig().getLong("jdbc.pool.maxWait", 5000);
+		config.whenExhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+		config.testOnBorrow = getConfig().getBoolean("jdbc.pool.testOnBorrow", true);
+		config.testOnReturn = false;
+		config.testWhileIdle = getConfig().getBoolean("jdbc.pool.testWhileIdle", true);
+		config.timeBetweenEvictionRunsMillis = getConfig().getLong("jdbc.pool.evictionInterval", 30000);
+		config.numTestsPerEvictionRun = config.maxActive;
+		config.minEvictableIdleTimeMillis = getConfig().getLong("jdbc.pool.minEvictableIdleTime", 10 * 60 * 1000L);
+		config.lifo = true;
+		this._pool = new GenericObjectPool<PooledConnection>(new PooledConnectionFactory(), config);
+	}
+
+	/**
+	 * ؼǮ 뿩θ Ѵ.
+	 *
+	 * @return 뿩
+	 */
+	public static boolean isEnabled() {
+		Configuration config = Configuration.getInstance();
+		Enabled enabled = _enabled;
+		if (enabled == null || enabled._config != config) {
+			enabled = new Enabled(config);
+			_enabled = enabled;
+		}
+		return enabled._value;
+	}
+
+	/**
+	 * jdbc url, ڿ شϴ ؼǮ Ѵ. Ǯ   Ѵ.
+	 *
+	 * @param url jdbc url
+	 * @param userID  ̵
+	 * @param userPW  н
+	 * @return ؼǮ
+	 */
+	public static ConnectionPool getPool(String url, String userID, String userPW) {
+		String key = url + "|" + userID + "|" + CryptUtil.hashSHA1(userPW == null ? "" : userPW);
+		ConnectionPool pool = _pools.get(key);
+		if (pool == null) {
+			synchronized (_pools) {
+				pool = _pools.get(key);
+				if (pool == null) {
+					// н尡 ٲ   н  Ǯ ݴ´.
+					for (Iterator<ConnectionPool> it = _pools.values().iterator(); it.hasNext();) {
+						ConnectionPool old = it.next();
+						if (old._url.equals(url) && (old._userID == null ? userID == null : old._userID.equals(userID))) {
+							it.remove();
+							old._close();
+							getLogger().info("н尡 Ǿ  ؼǮ ݾҽϴ. (" + url + "|" + userID + ")");
+						}
+					}
+					pool = new ConnectionPool(url, userID, userPW);
+					pool._register();
+					_pools.put(key, pool);
+				}
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 *   ؼǮ ݴ´. ø̼   ȣѴ.
+	 */
+	public static void closeAll() {
+		synchronized (_pools) {
+			for (ConnectionPool pool : _pools.values()) {
+				pool._close();
+			}
+			_pools.clear();
+			if (_leakTimer != null) {
+				_leakTimer.cancel();
+				_leakTimer = null;
+			}
+		}
+	}
+
+	/**
+	 * Ǯ ؼ . ȯ ؼ close() ޼ҵ带 ȣϸ Ǯ ȯȴ.
+	 *
+	 * @param caller ؼ ϴ ü,   ó ǥõȴ.
+	 * @return ؼ
+	 * @throws SQLException ִ ð  ؼ  ߰ų ؼ    
+	 */
+	public Connection getConnection(Object caller) throws SQLException {
+		long start = System.nanoTime();
+		PooledConnection pooled = null;
+		try {
+			pooled = _pool.borrowObject();
+		} catch (NoSuchElementException e) {
+			_timeoutCount.incrementAndGet();
+			throw new SQLException("ؼǮ ؼ  ߽ϴ. (" + _url + ", active=" + _pool.getNumActive() + ")");
+		} catch (SQLException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SQLException(e.getMessage());
+		} finally {
+			_waitNanos.addAndGet(System.nanoTime() - start);
+			_borrowCount.incrementAndGet();
+		}
+		pooled.borrow(caller, _leakThreshold > 0 ? new Throwable("ؼ ó") : null);
+		_borrowed.put(pooled, Boolean.TRUE);
+		return pooled.getProxy();
+	}
+
+	@Override
+	public String getUrl() {
+		return _url;
+	}
+
+	@Override
+	public int getNumActive() {
+		return _pool.getNumActive();
+	}
+
+	@Override
+	public int getNumIdle() {
+		return _pool.getNumIdle();
+	}
+
+	@Override
+	public int getMaxActive() {
+		return _pool.getMaxActive();
+	}
+
+	@Override
+	public long getBorrowCount() {
+		return _borrowCount.get();
+	}
+
+	@Override
+	public double getAverageWaitTime() {
+		long count = _borrowCount.get();
+		return count == 0 ? 0 : _waitNanos.get() / 1000000.0 / count;
+	}
+
+	@Override
+	public long getTimeoutCount() {
+		return _timeoutCount.get();
+	}
+
+	@Override
+	public long getCreatedCount() {
+		return _createdCount.get();
+	}
+
+	@Override
+	public long getDestroyedCount() {
+		return _destroyedCount.get();
+	}
+
+	@Override
+	public long getLeakCount() {
+		return _leakCount.get();
+	}
+
+	@Override
+	public long getStatementCacheHits() {
+		return _statementHits.get();
+	}
+
+	@Override
+	public long getStatementCacheMisses() {
+		return _statementMisses.get();
+	}
+
+	@Override
+	public String[] getLeaks() {
+		List<String> leaks = new ArrayList<String>();
+		long now = System.currentTimeMillis();
+		for (PooledConnection pooled : _borrowed.keySet()) {
+			long elapsed = now - pooled.getBorrowedAt();
+			if (_leakThreshold <= 0 || elapsed >= _leakThreshold) {
+				leaks.add(pooled.getCallerName() + " : " + elapsed + "ms");
+			}
+		}
+		return leaks.toArray(new String[leaks.size()]);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ؼ Ǯ ȯѴ. ѹ  autoCommit ¸ ϸ, ϸ  ؼ Ѵ.
+	 */
+	private void _return(PooledConnection pooled) {
+		_borrowed.remove(pooled);
+		try {
+			_pool.returnObject(pooled);
+		} catch (Exception e) {
+			getLogger().error("ؼ Ǯ ȯ ߽ϴ. (" + _url + ")", e);
+		}
+	}
+
+	/**
+	 *   ؽð  ȯ  ؼ ó Բ Ѵ. ؼǸ ѹ Ѵ.
+	 */
+	private void _detectLeaks() {
+		long now = System.currentTimeMillis();
+		for (PooledConnection pooled : _borrowed.keySet()) {
+			if (now - pooled.getBorrowedAt() >= _leakThreshold && pooled.markLeakReported()) {
+				_leakCount.incrementAndGet();
+				getLogger().warn("ؼ " + (now - pooled.getBorrowedAt()) + "ms  ȯ ʾҽϴ. ó : " + pooled.getCallerName(), pooled.getBorrowStack());
+			}
+		}
+	}
+
+	private void _register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName("framework:type=ConnectionPool,name=" + ObjectName.quote(_url + "|" + _userID));
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(this, objectName);
+			_objectName = objectName;
+		} catch (Exception e) {
+			getLogger().warn("ConnectionPool MBean  ߽ϴ.", e);
+		}
+		if (_leakThreshold > 0) {
+			if (_leakTimer == null) {
+				_leakTimer = new Timer("framework-connection-leak", true);
+			}
+			long period = Math.max(1000, _leakThreshold / 2);
+			_leakTask = new TimerTask() {
+				@Override
+				public void run() {
+					_detectLeaks();
+				}
+			};
+			_leakTimer.schedule(_leakTask, period, period);
+		}
+	}
+
+	private void _close() {
+		if (_leakTask != null) {
+			_leakTask.cancel();
+			_leakTask = null;
+		}
+		try {
+			_pool.close();
+		} catch (Exception e) {
+			getLogger().error("ؼǮ  ߽ϴ. (" + _url + ")", e);
+		}
+		if (_objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(_objectName);
+			} catch (Exception e) {
+			}
+			_objectName = null;
+		}
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	/**
+	 *  ü о ؼǮ 뿩,  ٽ   д´.
+	 */
+	private static final class Enabled {
+		private final Configuration _config;
+		private final boolean _value;
+
+		private Enabled(Configuration config) {
+			this._config = config;
+			this._value = config.getBoolean("jdbc.pool.enabled", true);
+		}
+	}
+
+	private static Log getLogger() {
+		return ConnectionPool._logger;
+	}
+
+	/**
+	 *  ؼ , , ϴ 丮
+	 */
+	private class PooledConnectionFactory extends BasePoolableObjectFactory<PooledConnection> {
+		@Override
+		public PooledConnection makeObject() throws Exception {
+			Connection connection = DriverManager.getConnection(_url, _userID, _userPW);
+			_createdCount.incrementAndGet();
+			if (getLogger().isDebugEnabled()) {
+				getLogger().debug(" DB !: " + _url);
+			}
+			return new PooledConnection(connection);
+		}
+
+		@Override
+		public void destroyObject(PooledConnection pooled) throws Exception {
+			_destroyedCount.incrementAndGet();
+			if (pooled.getStatementCache() != null) {
+				pooled.getStatementCache().close();
+			}
+			pooled.getPhysical().close();
+		}
+
+		@Override
+		public boolean validateObject(PooledConnection pooled) {
+			long now = System.currentTimeMillis();
+			if (_maxLifetime > 0 && now - pooled.getCreatedAt() >= _maxLifetime) {
+				return false;
+			}
+			if (now - pooled.getLastUsedAt() < _VALIDATION_SKIP_MILLIS) {
+				return true;
+			}
+			Connection connection = pooled.getPhysical();
+			try {
+				if (_validationQuery != null) {
+					Statement stmt = connection.createStatement();
+					try {
+						stmt.execute(_validationQuery);
+					} finally {
+						stmt.close();
+					}
+					return true;
+				}
+				try {
+					return connection.isValid(2);
+				} catch (AbstractMethodError e) {
+					// JDBC 4.0  ̹
+					return !connection.isClosed();
+				}
+			} catch (Exception e) {
+				return false;
+			}
+		}
+
+		@Override
+		public void passivateObject(PooledConnection pooled) throws Exception {
+			Connection connection = pooled.getPhysical();
+			pooled.closeStatements();
+			if (!connection.getAutoCommit()) {
+				connection.rollback();
+				connection.setAutoCommit(true);
+			}
+			connection.clearWarnings();
+			pooled.release();
+			if (_maxLifetime > 0 && System.currentTimeMillis() - pooled.getCreatedAt() >= _maxLifetime) {
+				// ܸ  Ǯ ȯ ʰ Ѵ.
+				throw new SQLException("ִ   ؼԴϴ.");
+			}
+		}
+	}
+
+	/**
+	 * Ǯ ϴ  ؼǰ 
+	 */
+	private final class PooledConnection implements InvocationHandler {
+		private final Connection _physical;
+		private final long _createdAt;
+		private volatile long _borrowedAt;
+		private volatile long _lastUsedAt;
+		private volatile String _callerName = null;
+		private volatile Throwable _borrowStack = null;
+		private volatile boolean _leakReported = false;
+		private volatile Connection _proxy = null;
+		private final StatementCache _statementCache;
+		private final List<Statement> _statements = new ArrayList<Statement>();
+
+		private PooledConnection(Connection physical) {
+			this._physical = physical;
+			this._statementCache = _statementCacheSize > 0 ? new StatementCache(_statementCacheSize, _statementHits, _statementMisses) : null;
+			this._createdAt = System.currentTimeMillis();
+			this._lastUsedAt = this._createdAt;
+		}
+
+		Connection getPhysical() {
+			return _physical;
+		}
+
+		StatementCache getStatementCache() {
+			return _statementCache;
+		}
+
+		Connection getProxy() {
+			return _proxy;
+		}
+
+		long getCreatedAt() {
+			return _createdAt;
+		}
+
+		long getBorrowedAt() {
+			return _borrowedAt;
+		}
+
+		long getLastUsedAt() {
+			return _lastUsedAt;
+		}
+
+		String getCallerName() {
+			return _callerName;
+		}
+
+		Throwable getBorrowStack() {
+			return _borrowStack;
+		}
+
+		boolean markLeakReported() {
+			if (_leakReported) {
+				return false;
+			}
+			_leakReported = true;
+			return true;
+		}
+
+		/**
+		 *    Ͻø , ȯ Ŀ  Ͻ÷ ؼ    Ѵ.
+		 */
+		void borrow(Object caller, Throwable borrowStack) {
+			_borrowedAt = System.currentTimeMillis();
+			_callerName = caller == null ? "unknown" : caller.getClass().getName();
+			_borrowStack = borrowStack;
+			_leakReported = false;
+			_proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, this);
+		}
+
+		/**
+		 *   Ͻ÷  Statement     ݴ´. Statement  ִ ResultSet Բ .
+		 * ĳÿ    ĳ÷ ȯȴ.
+		 */
+		void closeStatements() {
+			List<Statement> statements;
+			synchronized (_statements) {
+				statements = new ArrayList<Statement>(_statements);
+				_statements.clear();
+			}
+			for (Statement stmt : statements) {
+				try {
+					stmt.close();
+				} catch (SQLException e) {
+					getLogger().warn("ȯ ؼ Statement  ߽ϴ.", e);
+				}
+			}
+		}
+
+		void release() {
+			_lastUsedAt = System.currentTimeMillis();
+			_callerName = null;
+			_borrowStack = null;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return Boolean.valueOf(proxy == args[0]);
+			}
+			if ("hashCode".equals(name)) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			if ("toString".equals(name)) {
+				return "PooledConnection[" + _physical + "]";
+			}
+			boolean closed = proxy != _proxy;
+			if ("isClosed".equals(name)) {
+				return Boolean.valueOf(closed || _physical.isClosed());
+			}
+			if ("close".equals(name)) {
+				if (!closed) {
+					_proxy = null;
+					_return(this);
+				}
+				return null;
+			}
+			if (closed) {
+				throw new SQLException("̹ Ǯ ȯ ؼԴϴ.");
+			}
+			if (_statementCache != null && "prepareStatement".equals(name)) {
+				Class<?>[] types = method.getParameterTypes();
+				if (types.length == 1) {
+					return _track(_statementCache.prepare(_physical, (String) args[0], ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY));
+				}
+				if (types.length == 3 && types[1] == int.class && types[2] == int.class) {
+					return _track(_statementCache.prepare(_physical, (String) args[0], ((Integer) args[1]).intValue(), ((Integer) args[2]).intValue()));
+				}
+			}
+			try {
+				return _track(method.invoke(_physical, args));
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+
+		/**
+		 * Ͻ÷  Statement ȯ   ֵ Ѵ.
+		 * ؼ   鼭    츦     ̹   Ͽ Ѵ.
+		 */
+		private Object _track(Object result) {
+			if (!(result instanceof Statement)) {
+				return result;
+			}
+			synchronized (_statements) {
+				if (_statements.size() >= _STATEMENT_PURGE_SIZE) {
+					for (Iterator<Statement> it = _statements.iterator(); it.hasNext();) {
+						try {
+							if (it.next().isClosed()) {
+								it.remove();
+							}
+						} catch (SQLException e) {
+						} catch (AbstractMethodError e) {
+							// JDBC 4.0  ̹ isClosed()  Ƿ Ͽ ܵд.
+						}
+					}
+				}
+				_statements.add((Statement) result);
+			}
+			return result;
+		}
+	}
+}
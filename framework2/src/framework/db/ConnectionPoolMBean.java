@@ -0,0 +1,101 @@
+/**
+ * @(#)ConnectionPoolMBean.java
+ */
+package framework.db;
+
+/**
+ * ؼǮ ¸ JMX ȸϱ  MBean ̴̽.
+ */
+public interface ConnectionPoolMBean {
+
+	/**
+	 * ؼǮ jdbc url Ѵ.
+	 *
+	 * @return jdbc url
+	 */
+	public String getUrl();
+
+	/**
+	 *  ؼ  Ѵ.
+	 *
+	 * @return  ؼ 
+	 */
+	public int getNumActive();
+
+	/**
+	 *  ؼ  Ѵ.
+	 *
+	 * @return  ؼ 
+	 */
+	public int getNumIdle();
+
+	/**
+	 * ִ ؼ  Ѵ.
+	 *
+	 * @return ִ ؼ 
+	 */
+	public int getMaxActive();
+
+	/**
+	 * ؼ   Ƚ Ѵ.
+	 *
+	 * @return  뿩 Ƚ
+	 */
+	public long getBorrowCount();
+
+	/**
+	 * ؼ     ð Ѵ.
+	 *
+	 * @return  ð(и)
+	 */
+	public double getAverageWaitTime();
+
+	/**
+	 * ð ʰϿ ؼ    Ƚ Ѵ.
+	 *
+	 * @return  ŸӾƿ Ƚ
+	 */
+	public long getTimeoutCount();
+
+	/**
+	 *    ؼ   Ѵ.
+	 *
+	 * @return   
+	 */
+	public long getCreatedCount();
+
+	/**
+	 *  ߰ų ִ     ؼ   Ѵ.
+	 *
+	 * @return   
+	 */
+	public long getDestroyedCount();
+
+	/**
+	 * ȯ   ǽɵǾ   Ƚ Ѵ.
+	 *
+	 * @return    Ƚ
+	 */
+	public long getLeakCount();
+
+	/**
+	 * PreparedStatement ĳÿ غ    Ƚ Ѵ.
+	 *
+	 * @return  ĳ  Ƚ
+	 */
+	public long getStatementCacheHits();
+
+	/**
+	 * PreparedStatement ĳÿ    غ  Ƚ Ѵ.
+	 *
+	 * @return  ĳ  Ƚ
+	 */
+	public long getStatementCacheMisses();
+
+	/**
+	 *   ؽð   ؼ (ó, ð) Ѵ.
+	 *
+	 * @return  ؼ  ڿ 迭
+	 */
+	public String[] getLeaks();
+}
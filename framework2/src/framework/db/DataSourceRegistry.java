@@ -0,0 +1,299 @@
+/**
+ * @(#)DataSourceRegistry.java
+ */
+package framework.db;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.config.Configuration;
+
+/**
+ * JNDI ϵ Ÿҽ ѹ ȸϿ ϴ ̴.
+ * config.properties jdbc..datasource   Ÿҽ ۽  ȸϸ,
+ * ȸ Ÿҽ  ʴ ʿ Ͽ ûÿ   ã´.
+ * ׶ 尡 ֱ  Ÿҽ Ͽ ¸ Ȯϰ,   Ÿҽ  · ǥϿ
+ * û  ŸӾƿ ٸ ʰ   ߻Ų.  ´  Ȯο ῡ ϸ ȴ.
+ * ´ JMX(framework:type=DataSourceRegistry) ȸ  ִ.
+ * <br>
+ * config.properties 
+ * <br>
+ * jdbc.datasource.healthInterval :  Ȯ ֱ(), 0 ̸ Ȯ  (⺻ 30)
+ * <br>
+ * jdbc.datasource.failThreshold : ַ Ǵϴ   Ƚ (⺻ 2)
+ * <br>
+ * jdbc.datasource.validationQuery :  Ȯο  ,   Connection.isValid() 
+ */
+public final class DataSourceRegistry implements DataSourceRegistryMBean {
+	private static Log _logger = LogFactory.getLog(framework.db.DataSourceRegistry.class);
+	private static final DataSourceRegistry _instance = new DataSourceRegistry();
+	private static final Object _lock = new Object();
+	private static final long _LOOKUP_RETRY_MILLIS = 5000;
+	private static volatile Map<String, Source> _sources = Collections.emptyMap();
+	private static ScheduledExecutorService _scheduler = null;
+	private static ObjectName _objectName = null;
+
+	/**
+	 * , ܺο ü νϽȭ    
+	 */
+	private DataSourceRegistry() {
+	}
+
+	/**
+	 * config.properties   Ÿҽ ȸϰ  Ȯ Ѵ.
+	 * ȸ  Ÿҽ  · ϵǸ,  Ȯν ٽ ȸѴ.
+	 */
+	public static void init() {
+		for (String key : getConfig().keySet()) {
+			if (key.startsWith("jdbc.") && key.endsWith(".datasource")) {
+				_register(getConfig().getString(key));
+			}
+		}
+		synchronized (_lock) {
+			long interval = getConfig().getLong("jdbc.datasource.healthInterval", 30);
+			if (_scheduler == null && interval > 0 && !_sources.isEmpty()) {
+				_scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "framework-datasource-health");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+				_scheduler.scheduleWithFixedDelay(new Runnable() {
+					@Override
+					public void run() {
+						checkAll();
+					}
+				}, interval, interval, TimeUnit.SECONDS);
+			}
+			if (_objectName == null) {
+				try {
+					ObjectName objectName = new ObjectName("framework:type=DataSourceRegistry");
+					if (!ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+						ManagementFactory.getPlatformMBeanServer().registerMBean(_instance, objectName);
+						_objectName = objectName;
+					}
+				} catch (Exception e) {
+					getLogger().warn("DataSourceRegistry MBean  ߽ϴ.", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 *  Ȯ Ѵ. ø̼   ȣѴ.
+	 */
+	public static void shutdown() {
+		synchronized (_lock) {
+			if (_scheduler != null) {
+				_scheduler.shutdownNow();
+				_scheduler = null;
+			}
+			if (_objectName != null) {
+				try {
+					ManagementFactory.getPlatformMBeanServer().unregisterMBean(_objectName);
+				} catch (Exception e) {
+				}
+				_objectName = null;
+			}
+		}
+	}
+
+	/**
+	 * JNDI ̸ شϴ Ÿҽ Ѵ.
+	 * ϵ  ̸ ȸϿ ϸ,   Ÿҽ  õ ʰ  ܸ .
+	 * ȸ  Ÿҽ 5ʿ ѹ ٽ ȸѴ.
+	 *
+	 * @param dsName Ÿҽ JNDI ̸
+	 * @return Ÿҽ
+	 * @throws SQLException ȸ ߰ų   
+	 */
+	public static DataSource getDataSource(String dsName) throws SQLException {
+		Source source = _sources.get(dsName);
+		if (source == null) {
+			source = _register(dsName);
+		}
+		if (source.dataSource == null && System.currentTimeMillis() - source.lastLookup > _LOOKUP_RETRY_MILLIS) {
+			synchronized (source) {
+				if (source.dataSource == null && System.currentTimeMillis() - source.lastLookup > _LOOKUP_RETRY_MILLIS) {
+					_lookup(source);
+				}
+			}
+		}
+		if (source.dataSource == null || source.down) {
+			throw new SQLException("   ŸҽԴϴ. (" + dsName + ") " + source.lastError);
+		}
+		return source.dataSource;
+	}
+
+	/**
+	 *  Ÿҽ ¸ ȮѴ. ȸ  Ÿҽ ٽ ȸѴ.
+	 */
+	public static void checkAll() {
+		for (Source source : _sources.values()) {
+			_check(source);
+		}
+	}
+
+	@Override
+	public String[] getStatus() {
+		Map<String, Source> sorted = new TreeMap<String, Source>(_sources);
+		List<String> status = new ArrayList<String>(sorted.size());
+		for (Source source : sorted.values()) {
+			status.add(source.toString());
+		}
+		return status.toArray(new String[status.size()]);
+	}
+
+	@Override
+	public void check() {
+		checkAll();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * Ÿҽ ȸϿ Ѵ.  Ͽ üϹǷ д ʿ  ʿ.
+	 */
+	private static Source _register(String dsName) {
+		synchronized (_lock) {
+			Source source = _sources.get(dsName);
+			if (source != null) {
+				return source;
+			}
+			source = new Source(dsName);
+			_lookup(source);
+			Map<String, Source> sources = new HashMap<String, Source>(_sources);
+			sources.put(dsName, source);
+			_sources = Collections.unmodifiableMap(sources);
+			return source;
+		}
+	}
+
+	private static void _lookup(Source source) {
+		source.lastLookup = System.currentTimeMillis();
+		try {
+			InitialContext ctx = new InitialContext();
+			source.dataSource = (DataSource) ctx.lookup(source.name);
+			source.lastError = null;
+			getLogger().info("Ÿҽ ȸϿϴ. (" + source.name + ")");
+		} catch (Exception e) {
+			source.lastError = e.getMessage();
+			getLogger().error("Ÿҽ ȸ ߽ϴ. (" + source.name + ")", e);
+		}
+	}
+
+	/**
+	 * Ÿҽ Ͽ ¸ ȮѴ.   Ƚ    · ǥѴ.
+	 */
+	private static void _check(Source source) {
+		if (source.dataSource == null) {
+			_lookup(source);
+		}
+		long start = System.currentTimeMillis();
+		String error = null;
+		if (source.dataSource == null) {
+			error = source.lastError;
+		} else {
+			Connection conn = null;
+			try {
+				conn = source.dataSource.getConnection();
+				String validationQuery = getConfig().getString("jdbc.datasource.validationQuery", null);
+				if (validationQuery != null) {
+					Statement stmt = conn.createStatement();
+					try {
+						stmt.execute(validationQuery);
+					} finally {
+						stmt.close();
+					}
+				} else {
+					try {
+						if (!conn.isValid(5)) {
+							error = "Connection.isValid() ";
+						}
+					} catch (AbstractMethodError e) {
+						// JDBC 4.0  ̹   Ǵ
+					}
+				}
+			} catch (Exception e) {
+				error = e.getMessage();
+			} finally {
+				if (conn != null) {
+					try {
+						conn.close();
+					} catch (Exception e) {
+					}
+				}
+			}
+		}
+		source.lastChecked = System.currentTimeMillis();
+		source.lastElapsed = source.lastChecked - start;
+		if (error == null) {
+			if (source.down) {
+				getLogger().info("Ÿҽ Ǿϴ. (" + source.name + ")");
+			}
+			source.failures = 0;
+			source.down = false;
+			source.lastError = null;
+		} else {
+			source.failures++;
+			source.lastError = error;
+			if (!source.down && source.failures >= getConfig().getInt("jdbc.datasource.failThreshold", 2)) {
+				source.down = true;
+				getLogger().error("Ÿҽ  · ǥմϴ. (" + source.name + ") " + error);
+			}
+		}
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static Log getLogger() {
+		return DataSourceRegistry._logger;
+	}
+
+	/**
+	 * ϵ Ÿҽ 
+	 */
+	private static final class Source {
+		final String name;
+		volatile DataSource dataSource = null;
+		volatile boolean down = false;
+		volatile int failures = 0;
+		volatile long lastChecked = 0;
+		volatile long lastLookup = 0;
+		volatile long lastElapsed = 0;
+		volatile String lastError = null;
+
+		Source(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			String state = dataSource == null ? "NOT_FOUND" : down ? "DOWN" : "UP";
+			return name + " " + state + " failures=" + failures + " checked=" + (lastChecked == 0 ? "-" : new Timestamp(lastChecked).toString()) + " elapsed=" + lastElapsed + "ms" + (lastError == null ? "" : " error=" + lastError);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/**
+ * @(#)DataSourceRegistryMBean.java
+ */
+package framework.db;
+
+/**
+ * Ÿҽ ¸ JMX ȸϱ  MBean ̴̽.
+ */
+public interface DataSourceRegistryMBean {
+
+	/**
+	 * ϵ Ÿҽ (UP, DOWN, NOT_FOUND),   Ƚ,  Ȯνð, ޽ Ѵ.
+	 *
+	 * @return Ÿҽ  ڿ 迭
+	 */
+	public String[] getStatus();
+
+	/**
+	 *  Ÿҽ ¸  ȮѴ.
+	 */
+	public void check();
+}
@@ -0,0 +1,253 @@
+/**
+ * @(#)Pagination.java
+ */
+package framework.db;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import framework.config.Configuration;
+
+/**
+ *   ȸ  Ÿ̽  ´ ¡  ȯϴ Ŭ̴.
+ * û  row Ÿ̽ Ƿ   ȸϿ   Ÿ ۹ ʴ´.
+ * Oracle 11g ϴ ROWNUM, Oracle 12c ̻ SQL Server 2012 ̻ OFFSET/FETCH, MySQL, PostgreSQL  LIMIT/OFFSET  Ѵ.
+ * ȯ   (SELECT  ƴϰų ̹ ¡  ִ , FOR UPDATE, FOR SHARE, LOCK IN SHARE MODE, OPTION(...)  ִ ,
+ * SQL Server  ORDER BY    ) null  ϸ
+ *   RecordSet   鼭   row ǳʶڴ.
+ * ߰Ǵ ε  ׻   ε  ڿ ġѴ.
+ * Oracle 11g  ȯ    ζκ ιǷ    ̸ ÷  (ORA-00918)  ,
+ * ̶ ϴ ʿ failed()  ˸   ٽ ϸ Ŀ   ȯ ʴ´.
+ */
+final class Pagination {
+	static final int NONE = 0;
+	static final int ORACLE = 1;
+	static final int ORACLE12 = 2;
+	static final int SQLSERVER = 3;
+	static final int LIMIT = 4;
+	// ̹ ¡  ְų, ¡  ڿ ̰ų ζκ    (, SQL Server  OPTION, FOR XML )
+	private static final Pattern _PAGED = Pattern.compile("\\b(LIMIT|OFFSET|FETCH|INTO|TOP|ROWNUM|OPTION)\\b|\\bFOR\\s+(UPDATE|SHARE|NO\\s+KEY\\s+UPDATE|KEY\\s+SHARE|XML|JSON|BROWSE)\\b|\\bLOCK\\s+IN\\s+SHARE\\s+MODE\\b");
+	private static final Pattern _ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b");
+	private static final int _MAX_FAILED = 1000;
+	private static final Set<String> _failed = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	private final String _sql;
+	private final String _inlineSql;
+	private final long[] _params;
+	private final int _hiddenColumns;
+
+	private Pagination(String sql, String inlineSql, long[] params, int hiddenColumns) {
+		this._sql = sql;
+		this._inlineSql = inlineSql;
+		this._params = params;
+		this._hiddenColumns = hiddenColumns;
+	}
+
+	/**
+	 * ؼ Ÿ̽  ǴѴ.
+	 *
+	 * @param conn ؼ
+	 * @return ¡  ,  ʴ Ÿ̸̽ NONE
+	 */
+	static int dialect(Connection conn) {
+		if (conn == null) {
+			return NONE;
+		}
+		try {
+			DatabaseMetaData meta = conn.getMetaData();
+			String product = meta.getDatabaseProductName();
+			if (product == null) {
+				return NONE;
+			}
+			product = product.toUpperCase();
+			if (product.indexOf("ORACLE") != -1) {
+				return meta.getDatabaseMajorVersion() >= 12 ? ORACLE12 : ORACLE;
+			}
+			if (product.indexOf("SQL SERVER") != -1) {
+				return meta.getDatabaseMajorVersion() >= 11 ? SQLSERVER : NONE;
+			}
+			if (product.indexOf("MYSQL") != -1 || product.indexOf("MARIADB") != -1 || product.indexOf("POSTGRESQL") != -1 || product.indexOf("H2") != -1 || product.indexOf("HSQL") != -1 || product.indexOf("SQLITE") != -1) {
+				return LIMIT;
+			}
+		} catch (SQLException e) {
+		}
+		return NONE;
+	}
+
+	/**
+	 *  ¡  ȯѴ.
+	 *
+	 * @param connMgr   ؼ 
+	 * @param sql  
+	 * @param currPage  , ù  1
+	 * @param pageSize   ǥ  
+	 * @return ȯ , ȯ   null
+	 */
+	static Pagination rewrite(ConnectionManager connMgr, String sql, int currPage, int pageSize) {
+		if (sql == null || currPage < 1 || pageSize < 1 || !getConfig().getBoolean("jdbc.pagination.rewrite", true)) {
+			return null;
+		}
+		int dialect = connMgr.getDialect();
+		if (dialect == NONE || _failed.contains(sql)) {
+			return null;
+		}
+		String query = _trim(sql);
+		String skeleton = _skeleton(query);
+		if (skeleton == null || _PAGED.matcher(skeleton).find()) {
+			return null;
+		}
+		boolean select = skeleton.startsWith("SELECT");
+		if (!select && !skeleton.startsWith("WITH")) {
+			return null;
+		}
+		long start = (long) (currPage - 1) * pageSize;
+		long end = start + pageSize;
+		switch (dialect) {
+		case ORACLE:
+			if (!select) {
+				return null;
+			}
+			String prefix = "SELECT * FROM (SELECT A_.*, ROWNUM RNUM_ FROM (" + query + ") A_ WHERE ROWNUM <= ";
+			return new Pagination(prefix + "?) WHERE RNUM_ > ?", prefix + end + ") WHERE RNUM_ > " + start, new long[] { end, start }, 1);
+		case SQLSERVER:
+			// SQL Server  ORDER BY  ־ OFFSET/FETCH    ִ.
+			if (!_ORDER_BY.matcher(skeleton).find()) {
+				return null;
+			}
+			return _offsetFetch(query, start, pageSize);
+		case ORACLE12:
+			return _offsetFetch(query, start, pageSize);
+		default:
+			return new Pagination(query + " LIMIT ? OFFSET ?", query + " LIMIT " + pageSize + " OFFSET " + start, new long[] { pageSize, start }, 0);
+		}
+	}
+
+	/**
+	 * ȯ  Ͽ   ٽ ؾ ϴ θ Ѵ.
+	 *   ζκ  쿡 ȯ    Ƿ,  ܿ ٽ  ʰ  ״ .
+	 *
+	 * @return ٽ  
+	 */
+	boolean isRetryable() {
+		return _hiddenColumns > 0;
+	}
+
+	/**
+	 * ȯ     Ͽ Ŀ ȯ ʵ Ѵ.
+	 *
+	 * @param sql  
+	 */
+	static void failed(String sql) {
+		if (_failed.size() >= _MAX_FAILED) {
+			_failed.clear();
+		}
+		_failed.add(sql);
+	}
+
+	/**
+	 * ε  ϴ ¡  Ѵ.
+	 *
+	 * @return ¡ 
+	 */
+	String getSQL() {
+		return _sql;
+	}
+
+	/**
+	 * ¡     ¡  Ѵ. Statement    Ѵ.
+	 *
+	 * @return ¡ 
+	 */
+	String getInlineSQL() {
+		return _inlineSql;
+	}
+
+	/**
+	 * getSQL()  ߰ ε    Ѵ.
+	 *
+	 * @return ε  
+	 */
+	long[] getParams() {
+		return _params;
+	}
+
+	/**
+	 * ¡    ߰ ÷  Ѵ.
+	 *
+	 * @return ߰ ÷ 
+	 */
+	int getHiddenColumns() {
+		return _hiddenColumns;
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static Pagination _offsetFetch(String query, long start, int pageSize) {
+		return new Pagination(query + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY", query + " OFFSET " + start + " ROWS FETCH NEXT " + pageSize + " ROWS ONLY", new long[] { start, pageSize }, 0);
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	/**
+	 *    ݷ Ѵ.
+	 */
+	private static String _trim(String sql) {
+		int end = sql.length();
+		while (end > 0 && (Character.isWhitespace(sql.charAt(end - 1)) || sql.charAt(end - 1) == ';')) {
+			end--;
+		}
+		return sql.substring(0, end).trim();
+	}
+
+	/**
+	 * ڿ , ּ, ȣ    ٲٰ 빮ڷ ȯ ֻ   Ѵ.
+	 * ּ̳ ǥ    null  Ѵ.
+	 */
+	private static String _skeleton(String sql) {
+		StringBuilder buf = new StringBuilder(sql.length());
+		int depth = 0;
+		int length = sql.length();
+		for (int i = 0; i < length; i++) {
+			char c = sql.charAt(i);
+			if (c == '\'' || c == '"') {
+				int close = sql.indexOf(c, i + 1);
+				if (close == -1) {
+					return null;
+				}
+				i = close;
+				buf.append(' ');
+			} else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+				int close = sql.indexOf('\n', i);
+				if (close == -1) {
+					return null;
+				}
+				i = close;
+				buf.append(' ');
+			} else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+				int close = sql.indexOf("*/", i + 2);
+				if (close == -1) {
+					return null;
+				}
+				i = close + 1;
+				buf.append(' ');
+			} else if (c == '(') {
+				depth++;
+				buf.append(' ');
+			} else if (c == ')') {
+				depth--;
+				buf.append(' ');
+			} else {
+				buf.append(depth == 0 ? Character.toUpperCase(c) : ' ');
+			}
+		}
+		if (depth != 0) {
+			return null;
+		}
+		return buf.toString().trim();
+	}
+}
@@ -0,0 +1,331 @@
+/**
+ * @(#)QueryCache.java
+ */
+package framework.db;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import framework.cache.Cache;
+import framework.config.Configuration;
+import framework.util.CryptUtil;
+
+/**
+ * SELECT  (RecordSet) framework.cache.Cache  ϴ Ŭ̴.
+ * ĳ Ű Ÿҽ (scope), , ε  ,    д ̺ (generation)  ,
+ * AbstractDao  ̺ ⸦ ϸ  Ÿҽ  ̺   ٲپ ش ̺ д ĳø  ȿȭѴ.
+ *  ConnectionManager  Ÿҽ Ǵ jdbc url  ڷ ϹǷ,  ٸ Ÿ̽  ̸ ̺ ĳø  ʴ´.
+ *   ̺    쿡  Ÿҽ  , Ÿҽ    쿡 ü   ٲ۴.
+ * RecordSet  ȭ Ʈ ϹǷ ĳÿ   ׻ ȣڸ 纻̴.
+ * <br>
+ * config.properties 
+ * <br>
+ * jdbc.queryCache.enabled :  ĳ 뿩 (⺻ false), ϸ AbstractDao   ȿȭ Բ Ѵ.
+ * <br>
+ * jdbc.queryCache.seconds : SelectDaoSupport  ⺻ ĳ ð() (⺻ 60, 0 ̸ SelectDaoSupport.setCacheSeconds()  ȣ DAO ĳ)
+ * <br>
+ * jdbc.queryCache.maxSize : ĳ  ִũ(byte) (⺻ 1048576)
+ */
+final class QueryCache {
+	private static Log _logger = LogFactory.getLog(framework.db.QueryCache.class);
+	private static final String _KEY_PREFIX = "framework.query.";
+	private static final String _GENERATION_PREFIX = "framework.query.generation.";
+	private static final String _GLOBAL_GENERATION = "framework.query.generation";
+	private static final Pattern _TOKEN = Pattern.compile("[A-Z0-9_$#\"]+(?:\\.[A-Z0-9_$#\"]+)*|\\S");
+	private static final Pattern _WRITE = Pattern.compile("^\\s*(?:INSERT\\s+INTO|UPDATE|DELETE\\s+FROM|DELETE|MERGE\\s+INTO)\\s+([A-Z0-9_$#\"]+(?:\\.[A-Z0-9_$#\"]+)*)");
+	private static final Pattern _FOR_UPDATE = Pattern.compile("\\bFOR\\s+UPDATE\\b");
+
+	/**
+	 * , ܺο ü νϽȭ    
+	 */
+	private QueryCache() {
+	}
+
+	/**
+	 *  ĳ 뿩θ Ѵ.
+	 *
+	 * @return 뿩
+	 */
+	static boolean isEnabled() {
+		return getConfig().getBoolean("jdbc.queryCache.enabled", false);
+	}
+
+	/**
+	 * SelectDaoSupport  ⺻ ĳ ð() Ѵ.
+	 *
+	 * @return ð(),  ĳø   0
+	 */
+	static int getDefaultSeconds() {
+		return isEnabled() ? getConfig().getInt("jdbc.queryCache.seconds", 60) : 0;
+	}
+
+	/**
+	 *  شϴ ĳ Ű Ѵ.
+	 * SELECT  ƴϰų, FOR UPDATE  ְų, д ̺   ų, ĳ     ȸ   null  Ѵ.
+	 *    (ó ϰų ĳÿ ŵ )    ǻƳ ʵ    ϰ null  Ѵ.
+	 *
+	 * @param scope Ÿҽ , null ̸ ĳ 
+	 * @param query 
+	 * @param where ε  
+	 * @param currPage  
+	 * @param pageSize   ǥ  
+	 * @return ĳ Ű
+	 */
+	static String getKey(String scope, String query, Object[] where, int currPage, int pageSize) {
+		if (scope == null) {
+			return null;
+		}
+		String sql = _normalize(query);
+		if (sql == null || !(sql.startsWith("SELECT") || sql.startsWith("WITH")) || _FOR_UPDATE.matcher(sql).find()) {
+			return null;
+		}
+		Set<String> tables = _readTables(sql);
+		if (tables.isEmpty()) {
+			return null;
+		}
+		String scopeKey = _scopeKey(scope);
+		List<String> keys = new ArrayList<String>(tables.size() + 2);
+		keys.add(_GLOBAL_GENERATION);
+		keys.add(scopeKey);
+		for (String table : tables) {
+			keys.add(scopeKey + "." + table);
+		}
+		Map<String, Object> generations;
+		try {
+			generations = Cache.get(keys.toArray(new String[keys.size()]));
+		} catch (Exception e) {
+			getLogger().warn("ĳ   ȸ ߽ϴ. (" + tables + ")", e);
+			return null;
+		}
+		StringBuilder buf = new StringBuilder();
+		boolean missing = false;
+		for (String key : keys) {
+			Object generation = generations == null ? null : generations.get(key);
+			if (generation == null) {
+				missing = true;
+				try {
+					Cache.set(key, UUID.randomUUID().toString());
+				} catch (Exception e) {
+					getLogger().warn("ĳ    ߽ϴ. (" + key + ")", e);
+				}
+				continue;
+			}
+			buf.append(generation.toString()).append('\n');
+		}
+		if (missing) {
+			return null;
+		}
+		buf.append(scope).append('\n');
+		buf.append(query).append('\n');
+		if (where != null) {
+			for (Object value : where) {
+				if (value == null) {
+					buf.append("null");
+				} else if (value instanceof java.util.Date) {
+					buf.append(value.getClass().getName()).append(':').append(((java.util.Date) value).getTime());
+				} else {
+					buf.append(value.getClass().getName()).append(':').append(value);
+				}
+				buf.append('\n');
+			}
+		}
+		buf.append(currPage).append(':').append(pageSize);
+		return _KEY_PREFIX + CryptUtil.hashSHA1(buf.toString());
+	}
+
+	/**
+	 * ĳÿ    Ѵ. ĳ  ÿ ĳð   óѴ.
+	 *
+	 * @param key ĳ Ű
+	 * @return  ,  null
+	 */
+	static RecordSet get(String key) {
+		try {
+			Object value = Cache.get(key);
+			if (value instanceof byte[]) {
+				ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream((byte[]) value));
+				try {
+					RecordSet rs = new RecordSet();
+					rs.readExternal(in);
+					return rs;
+				} finally {
+					in.close();
+				}
+			}
+		} catch (Exception e) {
+			getLogger().warn("ĳø ȸ ߽ϴ. (" + key + ")", e);
+		}
+		return null;
+	}
+
+	/**
+	 *   ĳÿ Ѵ. ȭ ũⰡ jdbc.queryCache.maxSize  ũ  ʴ´.
+	 *
+	 * @param key ĳ Ű
+	 * @param rs  
+	 * @param seconds ð()
+	 */
+	static void put(String key, RecordSet rs, int seconds) {
+		try {
+			ByteArrayOutputStream buf = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(buf);
+			rs.writeExternal(out);
+			out.close();
+			if (buf.size() > getConfig().getInt("jdbc.queryCache.maxSize", 1024 * 1024)) {
+				return;
+			}
+			Cache.set(key, buf.toByteArray(), seconds);
+		} catch (Exception e) {
+			getLogger().warn("ĳø  ߽ϴ. (" + key + ")", e);
+		}
+	}
+
+	/**
+	 *    ̺ Ѵ.
+	 *
+	 * @param query INSERT, UPDATE, DELETE, MERGE 
+	 * @return ̺,    null
+	 */
+	static String getWriteTable(String query) {
+		String sql = _normalize(query);
+		if (sql == null) {
+			return null;
+		}
+		Matcher matcher = _WRITE.matcher(sql);
+		if (!matcher.find()) {
+			return null;
+		}
+		return _tableName(matcher.group(1));
+	}
+
+	/**
+	 * Ÿҽ  ȿ ̺   ٲپ ش ̺ д  ĳø ȿȭѴ.
+	 * null  ԵǾ      ٲپ     ĳø ȿȭϰ,
+	 *  null ̸ ü   ٲپ   ĳø ȿȭѴ.
+	 *
+	 * @param scope Ÿҽ 
+	 * @param tables ̺ 
+	 */
+	static void invalidate(String scope, Collection<String> tables) {
+		if (scope == null) {
+			try {
+				Cache.set(_GLOBAL_GENERATION, UUID.randomUUID().toString());
+			} catch (Exception e) {
+				getLogger().error("ĳ   ٲ ߽ϴ. (" + _GLOBAL_GENERATION + ")", e);
+			}
+			return;
+		}
+		String scopeKey = _scopeKey(scope);
+		for (String table : tables) {
+			String key = table == null ? scopeKey : scopeKey + "." + table;
+			try {
+				Cache.set(key, UUID.randomUUID().toString());
+			} catch (Exception e) {
+				getLogger().error("ĳ   ٲ ߽ϴ. (" + key + ")", e);
+			}
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ڿ  ּ  ٲٰ 빮ڷ ȯѴ. ǥ ּ    null  Ѵ.
+	 */
+	private static String _normalize(String sql) {
+		if (sql == null) {
+			return null;
+		}
+		StringBuilder buf = new StringBuilder(sql.length());
+		int length = sql.length();
+		for (int i = 0; i < length; i++) {
+			char c = sql.charAt(i);
+			if (c == '\'') {
+				int close = sql.indexOf(c, i + 1);
+				if (close == -1) {
+					return null;
+				}
+				i = close;
+				buf.append(' ');
+			} else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+				int close = sql.indexOf('\n', i);
+				i = close == -1 ? length : close;
+				buf.append(' ');
+			} else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+				int close = sql.indexOf("*/", i + 2);
+				if (close == -1) {
+					return null;
+				}
+				i = close + 1;
+				buf.append(' ');
+			} else {
+				buf.append(Character.toUpperCase(c));
+			}
+		}
+		return buf.toString().trim();
+	}
+
+	/**
+	 * FROM, JOIN ڿ  ̺ FROM  ǥ  ̺  ã´.
+	 *  ȣ  FROM   ã, ̺ ƴ ̸ ԵǴ ȿȭ    Ʋ ʴ´.
+	 */
+	private static Set<String> _readTables(String sql) {
+		Set<String> tables = new LinkedHashSet<String>();
+		Matcher matcher = _TOKEN.matcher(sql);
+		boolean expect = false;
+		boolean inFrom = false;
+		while (matcher.find()) {
+			String token = matcher.group();
+			if ("FROM".equals(token) || "JOIN".equals(token)) {
+				expect = true;
+				inFrom = "FROM".equals(token);
+			} else if (expect) {
+				expect = false;
+				if (!"(".equals(token)) {
+					tables.add(_tableName(token));
+				}
+			} else if (",".equals(token)) {
+				expect = inFrom;
+			} else if (")".equals(token) || "WHERE".equals(token) || "GROUP".equals(token) || "ORDER".equals(token) || "HAVING".equals(token) || "UNION".equals(token) || "ON".equals(token)) {
+				inFrom = false;
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * Ÿҽ   Ű Ѵ. ĳ  Ű    ڰ   Ƿ ؽѴ.
+	 */
+	private static String _scopeKey(String scope) {
+		return _GENERATION_PREFIX + CryptUtil.hashSHA1(scope);
+	}
+
+	/**
+	 * ǥ Ű  ̺ Ѵ.
+	 */
+	private static String _tableName(String name) {
+		String table = name.replace("\"", "");
+		int dot = table.lastIndexOf('.');
+		return dot == -1 ? table : table.substring(dot + 1);
+	}
+
+	private static Configuration getConfig() {
+		return Configuration.getInstance();
+	}
+
+	private static Log getLogger() {
+		return QueryCache._logger;
+	}
+}
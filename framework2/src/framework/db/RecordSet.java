@@ -3,6 +3,15 @@
  */
 package framework.db;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Date;
@@ -10,17 +19,43 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import framework.config.Configuration;
 
 /**
  * Ÿ̽         ϴ Ŭ̴.
+ *  row  Map ƴ϶ ÷  迭 Ѵ.
+ *  ÷ long[], Ǽ ÷ double[],   ÷ Object[]  ϸ  ÷ null δ ÷ Ʈʿ Ѵ.
+ * getRows()  ͷͰ ִ row  迭 ϴ Map ̸, 信 put, remove   row Map   Ѵ.
+ * ȭ  ÷  ѹ ϰ    UTF-8 ڿ ÷  ϸ,
+ * ũⰡ recordset.compressThreshold (⺻ 8192 byte, ̸  ) ̸̻ Deflate  Ѵ.
  */
-public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
-	private static final long serialVersionUID = -1248669129395067939L;
+public class RecordSet implements Iterable<Map<String, Object>>, Externalizable {
+	private static final long serialVersionUID = -3518006236227150940L;
+	private static final int INITIAL_CAPACITY = 64;
+	// ȭ  
+	private static final int FORMAT_VERSION = 1;
+	private static final int FLAG_DEFLATE = 1;
+	private static final int KIND_OBJECT = 0;
+	private static final int KIND_LONG = 1;
+	private static final int KIND_DOUBLE = 2;
+	// row 信 remove  ÷ ǥ
+	private static final Object REMOVED = new Object();
 	/**
 	 * DB columns ̸
 	 */
@@ -30,11 +65,21 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	private int[] _colScale = null;
 	private String[] _colInfo = null;
 	private int[] _columnsType = null;
-	//Rows 
-	private List<Map<String, Object>> _rows = new ArrayList<Map<String, Object>>();
+	//÷  迭(long[], double[], Object[])
+	private Object[] _values = null;
+	// ÷ null Ʈ, null   ÷ null
+	private BitSet[] _nulls = null;
+	private int _rowCount = 0;
+	//row 信 put, remove  ,  row  null
+	private Map<String, Object>[] _overlays = null;
+	//÷ ÷ ġ(0 ) 
+	private transient ColumnIndex _colIndex = null;
 	private int _currow = 0;
 
-	RecordSet() {
+	/**
+	 * ȭ  ,  RecordSet  Ѵ.
+	 */
+	public RecordSet() {
 	};
 
 	/**
@@ -56,11 +101,25 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @throws SQLException SQLException
 	 */
 	public RecordSet(ResultSet rs, int curpage, int pagesize) throws SQLException {
+		this(rs, curpage, pagesize, 0);
+	}
+
+	/**
+	 * ־  ԵǴ ο RecordSet ü Ѵ
+	 *
+	 * @param rs  
+	 * @param curpage  ǥ 
+	 * @param pagesize   ǥ  
+	 * @param hiddenColumns    ÷ (¡  ߰ ÷)
+	 *
+	 * @throws SQLException SQLException
+	 */
+	RecordSet(ResultSet rs, int curpage, int pagesize, int hiddenColumns) throws SQLException {
 		if (rs == null) {
 			return;
 		}
 		ResultSetMetaData rsmd = rs.getMetaData();
-		int count = rsmd.getColumnCount();
+		int count = rsmd.getColumnCount() - hiddenColumns;
 		_colNms = new String[count];
 		_colInfo = new String[count];
 		_colSize = new int[count];
@@ -68,6 +127,12 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 		_colScale = new int[count];
 		// byte[]  ó ؼ ߰
 		_columnsType = new int[count];
+		_values = new Object[count];
+		_nulls = new BitSet[count];
+		// ü 迭 ϴ ÷  
+		TypeHandler[] handlers = new TypeHandler[count];
+		//  ũ⸸ŭ ̸ Ҵ ʴ´. ü ȸ ū  ְų    ޸𸮸 ϸ, ϸ Ʒ ø.
+		int capacity = pagesize > 0 ? Math.min(pagesize, INITIAL_CAPACITY) : INITIAL_CAPACITY;
 		for (int i = 1; i <= count; i++) {
 			//Table Field  ҹ ΰ 빮ڷ ó
 			_colNms[i - 1] = rsmd.getColumnName(i).toUpperCase();
@@ -77,12 +142,13 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 			_colSizeReal[i - 1] = rsmd.getPrecision(i);
 			_colScale[i - 1] = rsmd.getScale(i);
 			_colInfo[i - 1] = rsmd.getColumnTypeName(i);
+			_values[i - 1] = _newColumn(rsmd, i, capacity);
+			handlers[i - 1] = TypeHandlerRegistry.getHandler(_columnsType[i - 1]);
 		}
-		rs.setFetchSize(100);
+		_buildIndex();
+		AdaptiveFetch adaptive = AdaptiveFetch.create(rs);
 		int num = 0;
 		while (rs.next()) {
-			//  Row  ü
-			Map<String, Object> columns = new HashMap<String, Object>(count);
 			num++;
 			if (curpage != 0 && (num < (curpage - 1) * pagesize + 1)) {
 				continue;
@@ -90,16 +156,40 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 			if (pagesize != 0 && (num > curpage * pagesize)) {
 				break;
 			}
-			for (int i = 1; i <= count; i++) {
-				Object value = rs.getObject(_colNms[i - 1]);
-				if (value instanceof Number) {
-					columns.put(_colNms[i - 1], rs.getObject(_colNms[i - 1]));
+			if (_rowCount == capacity) {
+				capacity = capacity + (capacity >> 1) + 1;
+				_resize(capacity);
+			}
+			for (int i = 0; i < count; i++) {
+				Object column = _values[i];
+				if (column instanceof long[]) {
+					long value = rs.getLong(i + 1);
+					if (rs.wasNull()) {
+						_setNull(_rowCount, i);
+					} else {
+						((long[]) column)[_rowCount] = value;
+					}
+				} else if (column instanceof double[]) {
+					double value = rs.getDouble(i + 1);
+					if (rs.wasNull()) {
+						_setNull(_rowCount, i);
+					} else {
+						((double[]) column)[_rowCount] = value;
+					}
 				} else {
-					columns.put(_colNms[i - 1], rs.getString(_colNms[i - 1]));
+					((Object[]) column)[_rowCount] = handlers[i].getValue(rs, i + 1);
+				}
+			}
+			if (adaptive != null) {
+				if (adaptive.isSampleRow()) {
+					adaptive.sample(_rowWidth(_rowCount));
 				}
+				adaptive.rowRead();
 			}
-			_rows.add(columns);
+			_rowCount++;
 		}
+		//   Ѵ.
+		_resize(_rowCount);
 		if (rs != null)
 			rs.close();
 	}
@@ -158,12 +248,28 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	}
 
 	/**
-	 * ־      ArrayList  ȯ
+	 * ־      List  ȯ
+	 *  row ÷ 迭 ϴ Map ̸, put   ÷ ߰ϰų  ٲ  ִ.
+	 *   row  Ͽ  getRows()  get(), getString()  ȸ ݿǸ, writeExternal()  ȭ  Ե ʴ´.
+	 * List  row ߰ϰų   .
 	 *
-	 * @return ArrayList
+	 * @return List
 	 */
 	public List<Map<String, Object>> getRows() {
-		return _rows;
+		return new RowList();
+	}
+
+	/**
+	 * ÷ ÷ ġ  ȯѴ.  ÷  RecordSet   ü Ѵ.
+	 *    ѹ ÷ ġ   ġ  ޼ҵ    Ѵ.
+	 *
+	 * @return ColumnIndex
+	 */
+	public ColumnIndex getColumnIndex() {
+		if (_colIndex == null) {
+			return ColumnIndex.of(new String[0]);
+		}
+		return _colIndex;
 	}
 
 	/**
@@ -184,10 +290,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return	int Row 
 	 */
 	public int getRowCount() {
-		if (_rows == null) {
-			return 0;
-		}
-		return _rows.size();
+		return _rowCount;
 	}
 
 	/**
@@ -240,7 +343,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return boolean
 	 */
 	public boolean isLast() {
-		return (_currow == _rows.size() && _rows.size() != 0);
+		return (_currow == _rowCount && _rowCount != 0);
 	}
 
 	/**
@@ -249,10 +352,10 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return boolean
 	 */
 	public boolean lastRow() {
-		if (_rows == null || _rows.size() == 0) {
+		if (_rowCount == 0) {
 			return false;
 		}
-		_currow = _rows.size();
+		_currow = _rowCount;
 		return true;
 	}
 
@@ -263,7 +366,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 */
 	public boolean nextRow() {
 		_currow++;
-		if (_currow == 0 || _rows == null || _rows.size() == 0 || _currow > _rows.size()) {
+		if (_currow == 0 || _rowCount == 0 || _currow > _rowCount) {
 			return false;
 		}
 		return true;
@@ -276,7 +379,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 */
 	public boolean preRow() {
 		_currow--;
-		if (_currow == 0 || _rows == null || _rows.size() == 0 || _currow > _rows.size()) {
+		if (_currow == 0 || _rowCount == 0 || _currow > _rowCount) {
 			return false;
 		}
 		return true;
@@ -288,7 +391,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return ̵ 
 	 */
 	public boolean moveRow(int row) {
-		if (_rows != null && _rows.size() != 0 && row <= _rows.size()) {
+		if (_rowCount != 0 && row <= _rowCount) {
 			_currow = row;
 			return true;
 		}
@@ -303,7 +406,169 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Object get(int row, String column) {
-		return _rows.get(row - 1).get(column.toUpperCase());
+		return get(row, _indexOf(column));
+	}
+
+	/**
+	 * Recordset Ÿ ÷ ġ ´.
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0, -1 ̸ null  ȯ
+	 * @return column data
+	 */
+	public Object get(int row, int column) {
+		_checkRow(row);
+		if (column < 0) {
+			return null;
+		}
+		return _value(row - 1, column);
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã String ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public String getString(int row, int column) {
+		Object value = get(row, column);
+		if (value == null) {
+			return "";
+		}
+		return value.toString().trim();
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã int ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public int getInt(int row, int column) {
+		return (int) getLong(row, column);
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã long ȯϴ ޼ҵ
+	 *  ÷   ü   ٷ ȯѴ.
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public long getLong(int row, int column) {
+		if (column >= 0 && _values[column] instanceof long[]) {
+			_checkRow(row);
+			if (!_isChanged(row - 1)) {
+				if (_isNull(row - 1, column)) {
+					return 0;
+				}
+				return ((long[]) _values[column])[row - 1];
+			}
+		}
+		return getBigDecimal(row, column).longValue();
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã double ȯϴ ޼ҵ
+	 *  ÷   ü   ٷ ȯѴ.
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public double getDouble(int row, int column) {
+		if (column >= 0 && (_values[column] instanceof long[] || _values[column] instanceof double[])) {
+			_checkRow(row);
+			if (!_isChanged(row - 1)) {
+				if (_isNull(row - 1, column)) {
+					return 0;
+				}
+				if (_values[column] instanceof long[]) {
+					return ((long[]) _values[column])[row - 1];
+				}
+				return ((double[]) _values[column])[row - 1];
+			}
+		}
+		return getBigDecimal(row, column).doubleValue();
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã BigDecimal ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public BigDecimal getBigDecimal(int row, int column) {
+		Object value = get(row, column);
+		if (value == null) {
+			return BigDecimal.valueOf(0);
+		}
+		if (value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		}
+		return new BigDecimal(value.toString());
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã int ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public int getInteger(int row, int column) {
+		return getBigDecimal(row, column).intValue();
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã float ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public float getFloat(int row, int column) {
+		return getBigDecimal(row, column).floatValue();
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã Date ȯϴ ޼ҵ
+	 * YYYY-MM-DD  ȯ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public Date getDate(int row, int column) {
+		Object value = get(row, column);
+		if (value instanceof java.util.Date) {
+			return new Date(((java.util.Date) value).getTime());
+		}
+		return Date.valueOf(getString(row, column).substring(0, 10));
+	}
+
+	/**
+	 * RecordSet column  ÷ ġ ã Timestamp ȯϴ ޼ҵ
+	 *
+	 * @param row row number, ù° row 1
+	 * @param column column index, ù° column 0
+	 * @return column data
+	 */
+	public Timestamp getTimestamp(int row, int column) {
+		Object value = get(row, column);
+		if (value == null) {
+			return null;
+		} else if (value instanceof Timestamp) {
+			return (Timestamp) value;
+		} else if (value instanceof java.util.Date) {
+			return new Timestamp(((java.util.Date) value).getTime());
+		} else {
+			return Timestamp.valueOf(value.toString());
+		}
 	}
 
 	/**
@@ -315,10 +580,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public String getString(int row, String column) {
-		if (get(row, column) == null) {
-			return "";
-		}
-		return get(row, column).toString().trim();
+		return getString(row, _indexOf(column));
 	}
 
 	/**
@@ -330,7 +592,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public int getInt(int row, String column) {
-		return getBigDecimal(row, column).intValue();
+		return getInt(row, _indexOf(column));
 	}
 
 	/**
@@ -342,7 +604,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public int getInteger(int row, String column) {
-		return getBigDecimal(row, column).intValue();
+		return getInteger(row, _indexOf(column));
 	}
 
 	/**
@@ -354,7 +616,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public long getLong(int row, String column) {
-		return getBigDecimal(row, column).longValue();
+		return getLong(row, _indexOf(column));
 	}
 
 	/**
@@ -366,7 +628,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public double getDouble(int row, String column) {
-		return getBigDecimal(row, column).doubleValue();
+		return getDouble(row, _indexOf(column));
 	}
 
 	/**
@@ -378,10 +640,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public BigDecimal getBigDecimal(int row, String column) {
-		if (get(row, column) == null) {
-			return BigDecimal.valueOf(0);
-		}
-		return new BigDecimal(get(row, column).toString());
+		return getBigDecimal(row, _indexOf(column));
 	}
 
 	/**
@@ -404,7 +663,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public float getFloat(int row, String column) {
-		return getBigDecimal(row, column).floatValue();
+		return getFloat(row, _indexOf(column));
 	}
 
 	/**
@@ -417,7 +676,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Date getDate(int row, String column) {
-		return Date.valueOf(getString(row, column).substring(0, 10));
+		return getDate(row, _indexOf(column));
 	}
 
 	/**
@@ -430,11 +689,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Timestamp getTimestamp(int row, String column) {
-		if ((String) get(row, column) == null) {
-			return null;
-		} else {
-			return Timestamp.valueOf(get(row, column).toString());
-		}
+		return getTimestamp(row, _indexOf(column));
 	}
 
 	/**
@@ -445,7 +700,29 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Object get(int column) {
-		return get(_currow, _colNms[column]);
+		return get(_currow, column);
+	}
+
+	/**
+	 *  RecordSet String  ȯϴ ޼ҵ
+	 *
+	 * @param column column index, ù° column 0
+	 *
+	 * @return column data
+	 */
+	public String getString(int column) {
+		return getString(_currow, column);
+	}
+
+	/**
+	 *  RecordSet BigDecimal  ȯϴ ޼ҵ
+	 *
+	 * @param column column index, ù° column 0
+	 *
+	 * @return column data
+	 */
+	public BigDecimal getBigDecimal(int column) {
+		return getBigDecimal(_currow, column);
 	}
 
 	/**
@@ -456,7 +733,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public int getInt(int column) {
-		return getInt(_currow, _colNms[column]);
+		return getInt(_currow, column);
 	}
 
 	/**
@@ -467,7 +744,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public int getInteger(int column) {
-		return getInteger(_currow, _colNms[column]);
+		return getInteger(_currow, column);
 	}
 
 	/**
@@ -478,7 +755,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public long getLong(int column) {
-		return getLong(_currow, _colNms[column]);
+		return getLong(_currow, column);
 	}
 
 	/**
@@ -489,7 +766,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public float getFloat(int column) {
-		return getFloat(_currow, _colNms[column]);
+		return getFloat(_currow, column);
 	}
 
 	/**
@@ -500,7 +777,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public double getDouble(int column) {
-		return getDouble(_currow, _colNms[column]);
+		return getDouble(_currow, column);
 	}
 
 	/**
@@ -512,7 +789,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Date getDate(int column) {
-		return getDate(_currow, _colNms[column]);
+		return getDate(_currow, column);
 	}
 
 	/**
@@ -523,7 +800,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return column data
 	 */
 	public Timestamp getTimestamp(int column) {
-		return getTimestamp(_currow, _colNms[column]);
+		return getTimestamp(_currow, column);
 	}
 
 	/**
@@ -641,11 +918,9 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 		if (name == null || _colNms == null) {
 			throw new ColumnNotFoundException("name or column_keys is null ");
 		}
-		int count = _colNms.length;
-		for (int i = 0; i < count; i++) {
-			if (name.equals(_colNms[i])) {
-				return i + 1;
-			}
+		int index = _colIndex.exactIndexOf(name);
+		if (index >= 0) {
+			return index + 1;
 		}
 		throw new ColumnNotFoundException("name : " + name + " is not found ");
 	}
@@ -656,7 +931,7 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	 * @return boolean True if there are no records in this object, false otherwise
 	 */
 	public boolean isEmpty() {
-		if (_rows.size() == 0) {
+		if (_rowCount == 0) {
 			return true;
 		} else {
 			return false;
@@ -670,4 +945,575 @@ public class RecordSet implements Iterable<Map<String, Object>>, Serializable {
 	public Iterator<Map<String, Object>> iterator() {
 		return getRows().iterator();
 	}
+
+	/**
+	 * RecordSet  ȭѴ.
+	 */
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(buf);
+		_writeBody(body);
+		body.flush();
+		byte[] bytes = buf.toByteArray();
+		int flags = 0;
+		int length = bytes.length;
+		int threshold = Configuration.getInstance().getInt("recordset.compressThreshold", 8192);
+		if (threshold >= 0 && bytes.length >= threshold) {
+			byte[] packed = RecordSetCodec.deflate(bytes);
+			if (packed.length < bytes.length) {
+				flags |= FLAG_DEFLATE;
+				bytes = packed;
+			}
+		}
+		out.writeByte(FORMAT_VERSION);
+		out.writeByte(flags);
+		RecordSetCodec.writeVarInt(out, length);
+		RecordSetCodec.writeBytes(out, bytes);
+	}
+
+	/**
+	 * ȭ RecordSet  д´.
+	 */
+	@Override
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		int version = in.readUnsignedByte();
+		if (version != FORMAT_VERSION) {
+			throw new InvalidClassException(RecordSet.class.getName(), "unsupported format version : " + version);
+		}
+		int flags = in.readUnsignedByte();
+		int length = (int) RecordSetCodec.readVarInt(in);
+		byte[] bytes = RecordSetCodec.readBytes(in);
+		if ((flags & FLAG_DEFLATE) != 0) {
+			bytes = RecordSetCodec.inflate(bytes, length);
+		}
+		_readBody(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 * ÷ ŸԿ ´  迭 Ѵ.
+	 *   long    long[], Ǽ double[],   Ÿ Object[]  Ѵ.
+	 * ø̼ TypeHandler   Ÿ Object[]  Ѵ.
+	 */
+	private static Object _newColumn(ResultSetMetaData rsmd, int column, int capacity) throws SQLException {
+		int type = rsmd.getColumnType(column);
+		if (TypeHandlerRegistry.isRegistered(type)) {
+			return new Object[capacity];
+		}
+		switch (type) {
+		case Types.TINYINT:
+		case Types.SMALLINT:
+		case Types.INTEGER:
+			return new long[capacity];
+		case Types.BIGINT:
+			if (rsmd.isSigned(column)) {
+				return new long[capacity];
+			}
+			break;
+		case Types.NUMERIC:
+		case Types.DECIMAL:
+			int precision = rsmd.getPrecision(column);
+			if (rsmd.getScale(column) == 0 && precision > 0 && precision <= 18) {
+				return new long[capacity];
+			}
+			break;
+		case Types.REAL:
+		case Types.FLOAT:
+		case Types.DOUBLE:
+			return new double[capacity];
+		}
+		return new Object[capacity];
+	}
+
+	private void _resize(int capacity) {
+		for (int i = 0; i < _values.length; i++) {
+			Object column = _values[i];
+			if (column instanceof long[]) {
+				_values[i] = Arrays.copyOf((long[]) column, capacity);
+			} else if (column instanceof double[]) {
+				_values[i] = Arrays.copyOf((double[]) column, capacity);
+			} else {
+				_values[i] = Arrays.copyOf((Object[]) column, capacity);
+			}
+		}
+	}
+
+	/**
+	 * row ϴ ޸ ũ(byte) Ѵ.
+	 */
+	private long _rowWidth(int row) {
+		long width = 0;
+		for (int i = 0; i < _values.length; i++) {
+			Object column = _values[i];
+			if (column instanceof long[] || column instanceof double[]) {
+				width += 8;
+				continue;
+			}
+			Object value = ((Object[]) column)[row];
+			if (value instanceof String) {
+				width += 40 + 2 * ((String) value).length();
+			} else if (value instanceof byte[]) {
+				width += 16 + ((byte[]) value).length;
+			} else if (value != null) {
+				width += 24;
+			}
+			width += 4;
+		}
+		return width;
+	}
+
+	private void _setNull(int row, int col) {
+		if (_nulls[col] == null) {
+			_nulls[col] = new BitSet();
+		}
+		_nulls[col].set(row);
+	}
+
+	/**
+	 * ÷  .  ÷  RecordSet   Ѵ.
+	 */
+	private void _buildIndex() {
+		_colIndex = ColumnIndex.of(_colNms);
+	}
+
+	private int _indexOf(String column) {
+		if (_colIndex == null) {
+			return -1;
+		}
+		return _colIndex.indexOf(column);
+	}
+
+	private void _checkRow(int row) {
+		if (row < 1 || row > _rowCount) {
+			throw new IndexOutOfBoundsException("row : " + row + ", size : " + _rowCount);
+		}
+	}
+
+	/**
+	 * row 信   row θ Ѵ.
+	 */
+	private boolean _isChanged(int row) {
+		return _overlays != null && _overlays[row] != null;
+	}
+
+	/**
+	 * row 信   ϴ Map  Ѵ.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> _overlay(int row) {
+		if (_overlays == null) {
+			_overlays = new Map[_rowCount];
+		}
+		if (_overlays[row] == null) {
+			_overlays[row] = new LinkedHashMap<String, Object>();
+		}
+		return _overlays[row];
+	}
+
+	private boolean _isNull(int row, int col) {
+		return _nulls[col] != null && _nulls[col].get(row);
+	}
+
+	/**
+	 *   JDBC ̹ getObject()   Ÿ ü ش.
+	 */
+	private Object _value(int row, int col) {
+		if (_isChanged(row)) {
+			Map<String, Object> overlay = _overlays[row];
+			if (overlay.containsKey(_colNms[col])) {
+				Object value = overlay.get(_colNms[col]);
+				return value == REMOVED ? null : value;
+			}
+		}
+		return _stored(row, col);
+	}
+
+	/**
+	 * ÷ 迭   ش.
+	 */
+	private Object _stored(int row, int col) {
+		Object column = _values[col];
+		if (column instanceof long[]) {
+			if (_isNull(row, col)) {
+				return null;
+			}
+			long value = ((long[]) column)[row];
+			switch (_columnsType[col]) {
+			case Types.BIGINT:
+				return Long.valueOf(value);
+			case Types.NUMERIC:
+			case Types.DECIMAL:
+				return BigDecimal.valueOf(value);
+			default:
+				if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+					return Integer.valueOf((int) value);
+				}
+				return Long.valueOf(value);
+			}
+		}
+		if (column instanceof double[]) {
+			if (_isNull(row, col)) {
+				return null;
+			}
+			double value = ((double[]) column)[row];
+			if (_columnsType[col] == Types.REAL) {
+				return Float.valueOf((float) value);
+			}
+			return Double.valueOf(value);
+		}
+		return ((Object[]) column)[row];
+	}
+
+	/**
+	 * ÷ , row , ÷   Ѵ.
+	 *  ÷ null Ʈ ڿ null  ƴ  Ѵ.
+	 */
+	private void _writeBody(DataOutputStream out) throws IOException {
+		if (_colNms == null) {
+			RecordSetCodec.writeVarInt(out, 0);
+			return;
+		}
+		int count = _colNms.length;
+		RecordSetCodec.writeVarInt(out, count + 1L);
+		for (int i = 0; i < count; i++) {
+			RecordSetCodec.writeString(out, _colNms[i]);
+			RecordSetCodec.writeString(out, _colInfo[i]);
+			RecordSetCodec.writeSignedVarInt(out, _columnsType[i]);
+			RecordSetCodec.writeSignedVarInt(out, _colSize[i]);
+			RecordSetCodec.writeSignedVarInt(out, _colSizeReal[i]);
+			RecordSetCodec.writeSignedVarInt(out, _colScale[i]);
+			out.writeByte(_values[i] instanceof long[] ? KIND_LONG : _values[i] instanceof double[] ? KIND_DOUBLE : KIND_OBJECT);
+		}
+		RecordSetCodec.writeVarInt(out, _rowCount);
+		RecordSetCodec.writeSignedVarInt(out, _currow);
+		for (int i = 0; i < count; i++) {
+			Object column = _values[i];
+			if (column instanceof long[]) {
+				_writeNulls(out, i);
+				long[] values = (long[]) column;
+				for (int r = 0; r < _rowCount; r++) {
+					if (!_isNull(r, i)) {
+						RecordSetCodec.writeSignedVarInt(out, values[r]);
+					}
+				}
+			} else if (column instanceof double[]) {
+				_writeNulls(out, i);
+				double[] values = (double[]) column;
+				for (int r = 0; r < _rowCount; r++) {
+					if (!_isNull(r, i)) {
+						out.writeDouble(values[r]);
+					}
+				}
+			} else {
+				Object[] values = (Object[]) column;
+				for (int r = 0; r < _rowCount; r++) {
+					RecordSetCodec.writeValue(out, values[r]);
+				}
+			}
+		}
+	}
+
+	private void _readBody(DataInputStream in) throws IOException {
+		int count = (int) RecordSetCodec.readVarInt(in) - 1;
+		if (count < 0) {
+			return;
+		}
+		_colNms = new String[count];
+		_colInfo = new String[count];
+		_columnsType = new int[count];
+		_colSize = new int[count];
+		_colSizeReal = new int[count];
+		_colScale = new int[count];
+		_values = new Object[count];
+		_nulls = new BitSet[count];
+		int[] kinds = new int[count];
+		for (int i = 0; i < count; i++) {
+			_colNms[i] = RecordSetCodec.readString(in);
+			_colInfo[i] = RecordSetCodec.readString(in);
+			_columnsType[i] = (int) RecordSetCodec.readSignedVarInt(in);
+			_colSize[i] = (int) RecordSetCodec.readSignedVarInt(in);
+			_colSizeReal[i] = (int) RecordSetCodec.readSignedVarInt(in);
+			_colScale[i] = (int) RecordSetCodec.readSignedVarInt(in);
+			kinds[i] = in.readUnsignedByte();
+		}
+		_rowCount = (int) RecordSetCodec.readVarInt(in);
+		_currow = (int) RecordSetCodec.readSignedVarInt(in);
+		for (int i = 0; i < count; i++) {
+			if (kinds[i] == KIND_LONG) {
+				_readNulls(in, i);
+				long[] values = new long[_rowCount];
+				for (int r = 0; r < _rowCount; r++) {
+					if (!_isNull(r, i)) {
+						values[r] = RecordSetCodec.readSignedVarInt(in);
+					}
+				}
+				_values[i] = values;
+			} else if (kinds[i] == KIND_DOUBLE) {
+				_readNulls(in, i);
+				double[] values = new double[_rowCount];
+				for (int r = 0; r < _rowCount; r++) {
+					if (!_isNull(r, i)) {
+						values[r] = in.readDouble();
+					}
+				}
+				_values[i] = values;
+			} else {
+				Object[] values = new Object[_rowCount];
+				for (int r = 0; r < _rowCount; r++) {
+					values[r] = RecordSetCodec.readValue(in);
+				}
+				_values[i] = values;
+			}
+		}
+		_buildIndex();
+	}
+
+	/**
+	 * null Ʈ Ѵ. null   ÷ 0  Ʈ Ѵ.
+	 */
+	private void _writeNulls(DataOutputStream out, int col) throws IOException {
+		BitSet nulls = _nulls[col];
+		if (nulls == null || nulls.isEmpty()) {
+			out.writeByte(0);
+			return;
+		}
+		out.writeByte(1);
+		byte[] bits = new byte[(_rowCount + 7) / 8];
+		for (int r = nulls.nextSetBit(0); r >= 0 && r < _rowCount; r = nulls.nextSetBit(r + 1)) {
+			bits[r >> 3] |= 1 << (r & 7);
+		}
+		out.write(bits);
+	}
+
+	private void _readNulls(DataInputStream in, int col) throws IOException {
+		if (in.readUnsignedByte() == 0) {
+			return;
+		}
+		byte[] bits = new byte[(_rowCount + 7) / 8];
+		in.readFully(bits);
+		BitSet nulls = new BitSet(_rowCount);
+		for (int r = 0; r < _rowCount; r++) {
+			if ((bits[r >> 3] & (1 << (r & 7))) != 0) {
+				nulls.set(r);
+			}
+		}
+		_nulls[col] = nulls;
+	}
+
+	/**
+	 * getRows()  ִ row  
+	 */
+	private final class RowList extends AbstractList<Map<String, Object>> implements RandomAccess, Serializable {
+		private static final long serialVersionUID = -2722304751468385186L;
+
+		@Override
+		public Map<String, Object> get(int index) {
+			if (index < 0 || index >= _rowCount) {
+				throw new IndexOutOfBoundsException("index : " + index + ", size : " + _rowCount);
+			}
+			return new RowMap(index);
+		}
+
+		@Override
+		public int size() {
+			return _rowCount;
+		}
+
+		/**
+		 * ȭ  Ϲ List Ѵ.
+		 */
+		private Object writeReplace() {
+			return new ArrayList<Map<String, Object>>(this);
+		}
+	}
+
+	/**
+	 *  row ÷  ÷(빮) ȸϴ Map 
+	 * put, remove   RecordSet  row Map  ϸ,    row ÷ 迭 д´.
+	 */
+	private final class RowMap extends AbstractMap<String, Object> implements Serializable {
+		private static final long serialVersionUID = 3590744218003446702L;
+		private final int _row;
+
+		private RowMap(int row) {
+			this._row = row;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (_isChanged(_row) && _overlays[_row].containsKey(key)) {
+				Object value = _overlays[_row].get(key);
+				return value == REMOVED ? null : value;
+			}
+			int index = _colIndex.exactIndexOf(key);
+			if (index < 0) {
+				return null;
+			}
+			return _stored(_row, index);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			if (_isChanged(_row) && _overlays[_row].containsKey(key)) {
+				return _overlays[_row].get(key) != REMOVED;
+			}
+			return _colIndex.exactIndexOf(key) >= 0;
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object old = get(key);
+			_overlay(_row).put(key, value);
+			return old;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			if (!containsKey(key)) {
+				return null;
+			}
+			Object old = get(key);
+			if (_colIndex.exactIndexOf(key) >= 0) {
+				_overlay(_row).put((String) key, REMOVED);
+			} else {
+				_overlays[_row].remove(key);
+			}
+			return old;
+		}
+
+		@Override
+		public int size() {
+			if (!_isChanged(_row)) {
+				return _colIndex.distinctCount();
+			}
+			int size = 0;
+			for (Iterator<Map.Entry<String, Object>> it = entrySet().iterator(); it.hasNext(); it.next()) {
+				size++;
+			}
+			return size;
+		}
+
+		@Override
+		public Set<Map.Entry<String, Object>> entrySet() {
+			return new AbstractSet<Map.Entry<String, Object>>() {
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new Iterator<Map.Entry<String, Object>>() {
+						private final Iterator<String> _added = _isChanged(_row) ? new ArrayList<String>(_overlays[_row].keySet()).iterator() : null;
+						private int _col = _next(0);
+						private String _nextAdded = _nextAdded();
+						private String _last = null;
+
+						@Override
+						public boolean hasNext() {
+							return _col < _colNms.length || _nextAdded != null;
+						}
+
+						@Override
+						public Map.Entry<String, Object> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							if (_col < _colNms.length) {
+								_last = _colNms[_col];
+								_col = _next(_col + 1);
+							} else {
+								_last = _nextAdded;
+								_nextAdded = _nextAdded();
+							}
+							return new RowEntry(_last);
+						}
+
+						@Override
+						public void remove() {
+							if (_last == null) {
+								throw new IllegalStateException();
+							}
+							RowMap.this.remove(_last);
+							_last = null;
+						}
+
+						//  ̸ ÷  ÷ ָ, remove  ÷ ǳʶڴ.
+						private int _next(int col) {
+							while (col < _colNms.length && (_colIndex.exactIndexOf(_colNms[col]) != col || !containsKey(_colNms[col]))) {
+								col++;
+							}
+							return col;
+						}
+
+						// ÷ ƴ ߰ Ű
+						private String _nextAdded() {
+							while (_added != null && _added.hasNext()) {
+								String key = _added.next();
+								if (_colIndex.exactIndexOf(key) < 0 && containsKey(key)) {
+									return key;
+								}
+							}
+							return null;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return RowMap.this.size();
+				}
+			};
+		}
+
+		/**
+		 * ȭ  Ϲ Map Ѵ.
+		 */
+		private Object writeReplace() {
+			return new HashMap<String, Object>(this);
+		}
+
+		/**
+		 *    row 信 ã Map.Entry
+		 */
+		private final class RowEntry implements Map.Entry<String, Object> {
+			private final String _key;
+
+			private RowEntry(String key) {
+				this._key = key;
+			}
+
+			@Override
+			public String getKey() {
+				return _key;
+			}
+
+			@Override
+			public Object getValue() {
+				return get(_key);
+			}
+
+			@Override
+			public Object setValue(Object value) {
+				return put(_key, value);
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+				if (!(obj instanceof Map.Entry)) {
+					return false;
+				}
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+				Object value = getValue();
+				return _key.equals(entry.getKey()) && (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+			}
+
+			@Override
+			public int hashCode() {
+				Object value = getValue();
+				return _key.hashCode() ^ (value == null ? 0 : value.hashCode());
+			}
+
+			@Override
+			public String toString() {
+				return _key + "=" + getValue();
+			}
+		}
+	}
 }
\ No newline at end of file
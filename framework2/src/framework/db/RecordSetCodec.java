@@ -0,0 +1,238 @@
+/**
+ * @(#)RecordSetCodec.java
+ */
+package framework.db;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * RecordSet  ȭ Ŀ ϴ ڵ Լ Ƴ Ŭ̴.
+ *  7Ʈ  (varint),    ִ  zigzag ȯ  varint  ϸ
+ * ڿ UTF-8 Ʈ ̸ տ Ѵ. ü ÷  Ÿ ±  Ʈ ڿ Ѵ.
+ */
+final class RecordSetCodec {
+	static final int TAG_NULL = 0;
+	static final int TAG_STRING = 1;
+	static final int TAG_BIG_DECIMAL = 2;
+	static final int TAG_INTEGER = 3;
+	static final int TAG_LONG = 4;
+	static final int TAG_DOUBLE = 5;
+	static final int TAG_FLOAT = 6;
+	static final int TAG_BYTES = 7;
+	static final int TAG_TIMESTAMP = 8;
+	static final int TAG_DATE = 9;
+	static final int TAG_SERIALIZED = 15;
+
+	private RecordSetCodec() {
+	}
+
+	static void writeVarInt(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	static long readVarInt(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("malformed varint");
+	}
+
+	static void writeSignedVarInt(DataOutput out, long value) throws IOException {
+		writeVarInt(out, (value << 1) ^ (value >> 63));
+	}
+
+	static long readSignedVarInt(DataInput in) throws IOException {
+		long value = readVarInt(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	static byte[] readBytes(DataInput in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * ڿ Ѵ. null   0,  ܿ (UTF-8 Ʈ  + 1)  տ Ѵ.
+	 */
+	static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		byte[] bytes = value.getBytes("UTF-8");
+		writeVarInt(out, bytes.length + 1L);
+		out.write(bytes);
+	}
+
+	static String readString(DataInput in) throws IOException {
+		int length = readLength(in);
+		if (length == 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length - 1];
+		in.readFully(bytes);
+		return new String(bytes, "UTF-8");
+	}
+
+	/**
+	 * ü ÷  Ÿ ±׿ Բ Ѵ.
+	 */
+	static void writeValue(DataOutput out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(TAG_NULL);
+		} else if (value instanceof String) {
+			out.writeByte(TAG_STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof BigDecimal) {
+			BigDecimal decimal = (BigDecimal) value;
+			out.writeByte(TAG_BIG_DECIMAL);
+			writeSignedVarInt(out, decimal.scale());
+			writeBytes(out, decimal.unscaledValue().toByteArray());
+		} else if (value instanceof Integer) {
+			out.writeByte(TAG_INTEGER);
+			writeSignedVarInt(out, ((Integer) value).intValue());
+		} else if (value instanceof Long) {
+			out.writeByte(TAG_LONG);
+			writeSignedVarInt(out, ((Long) value).longValue());
+		} else if (value instanceof Double) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeDouble(((Double) value).doubleValue());
+		} else if (value instanceof Float) {
+			out.writeByte(TAG_FLOAT);
+			out.writeFloat(((Float) value).floatValue());
+		} else if (value instanceof byte[]) {
+			out.writeByte(TAG_BYTES);
+			writeBytes(out, (byte[]) value);
+		} else if (value instanceof Timestamp) {
+			Timestamp timestamp = (Timestamp) value;
+			out.writeByte(TAG_TIMESTAMP);
+			writeSignedVarInt(out, timestamp.getTime());
+			writeVarInt(out, timestamp.getNanos());
+		} else if (value instanceof java.sql.Date) {
+			out.writeByte(TAG_DATE);
+			writeSignedVarInt(out, ((java.sql.Date) value).getTime());
+		} else {
+			ByteArrayOutputStream buf = new ByteArrayOutputStream();
+			ObjectOutputStream oos = new ObjectOutputStream(buf);
+			oos.writeObject(value);
+			oos.close();
+			out.writeByte(TAG_SERIALIZED);
+			writeBytes(out, buf.toByteArray());
+		}
+	}
+
+	static Object readValue(DataInput in) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch (tag) {
+		case TAG_NULL:
+			return null;
+		case TAG_STRING:
+			return readString(in);
+		case TAG_BIG_DECIMAL:
+			int scale = (int) readSignedVarInt(in);
+			return new BigDecimal(new BigInteger(readBytes(in)), scale);
+		case TAG_INTEGER:
+			return Integer.valueOf((int) readSignedVarInt(in));
+		case TAG_LONG:
+			return Long.valueOf(readSignedVarInt(in));
+		case TAG_DOUBLE:
+			return Double.valueOf(in.readDouble());
+		case TAG_FLOAT:
+			return Float.valueOf(in.readFloat());
+		case TAG_BYTES:
+			return readBytes(in);
+		case TAG_TIMESTAMP:
+			Timestamp timestamp = new Timestamp(readSignedVarInt(in));
+			timestamp.setNanos((int) readVarInt(in));
+			return timestamp;
+		case TAG_DATE:
+			return new java.sql.Date(readSignedVarInt(in));
+		case TAG_SERIALIZED:
+			ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)));
+			try {
+				return ois.readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e.getMessage());
+			} finally {
+				ois.close();
+			}
+		default:
+			throw new StreamCorruptedException("unknown value tag : " + tag);
+		}
+	}
+
+	static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream buf = new ByteArrayOutputStream(bytes.length / 2 + 16);
+			byte[] block = new byte[8192];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(block);
+				buf.write(block, 0, count);
+			}
+			return buf.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	static byte[] inflate(byte[] bytes, int length) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes);
+			byte[] result = new byte[length];
+			int offset = 0;
+			while (offset < length) {
+				int count = inflater.inflate(result, offset, length - offset);
+				if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new StreamCorruptedException("truncated compressed block");
+				}
+				offset += count;
+			}
+			return result;
+		} catch (DataFormatException e) {
+			throw new StreamCorruptedException(e.getMessage());
+		} finally {
+			inflater.end();
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static int readLength(DataInput in) throws IOException {
+		long length = readVarInt(in);
+		if (length < 0 || length > Integer.MAX_VALUE) {
+			throw new StreamCorruptedException("invalid length : " + length);
+		}
+		return (int) length;
+	}
+}
@@ -0,0 +1,453 @@
+/**
+ * @(#)RowCursor.java
+ */
+package framework.db;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ *   RecordSet   о ʰ  row о óϴ Ŀ Ŭ̴.
+ * ѹ  row ϳ ޸𸮿 ϹǷ  Ǽ   ޸𸮷 뷮 Ÿ ó  ִ.
+ * ͷʹ Ź Ŀ ڽ ֹǷ  row ̵ Ŀ  row    .
+ *  row ų close()  ȣϸ ResultSet  , Ŀ   ų ConnectionManager  release   Բ .
+ * <br>
+ * ex) RowCursor cursor = pstmt.executeCursor(1000);
+ * try { for (RowCursor row : cursor) { row.getString("NAME"); } } finally { cursor.close(); }
+ */
+public class RowCursor implements Iterable<RowCursor>, Closeable {
+	private static Log _logger = LogFactory.getLog(framework.db.RowCursor.class);
+	private ResultSet _rs = null;
+	private DBStatement _owner = null;
+	private String[] _colNms = null;
+	private Map<String, Integer> _colIndex = null;
+	private TypeHandler[] _handlers = null;
+	private int _currow = 0;
+	// hasNext()  ̸ ̵ row ִ 
+	private boolean _fetched = false;
+
+	/**
+	 * RowCursor 
+	 *
+	 * @param rs  
+	 * @param owner Ŀ   Բ  ,  null
+	 * @throws SQLException SQLException
+	 */
+	RowCursor(ResultSet rs, DBStatement owner) throws SQLException {
+		this._rs = rs;
+		this._owner = owner;
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int count = rsmd.getColumnCount();
+		_colNms = new String[count];
+		_colIndex = new HashMap<String, Integer>();
+		_handlers = new TypeHandler[count];
+		for (int i = count; i >= 1; i--) {
+			_handlers[i - 1] = TypeHandlerRegistry.getHandler(rsmd.getColumnType(i));
+			//Table Field  ҹ ΰ 빮ڷ ó
+			_colNms[i - 1] = rsmd.getColumnName(i).toUpperCase();
+			_colIndex.put(_colNms[i - 1], Integer.valueOf(i));
+		}
+	}
+
+	/**
+	 * ÷ String[]  ȯ
+	 *
+	 * @return String[]
+	 */
+	public String[] getColumns() {
+		return _colNms;
+	}
+
+	/**
+	 *  column  Ѵ
+	 *
+	 * @return int ÷ 
+	 */
+	public int getColumnCount() {
+		return _colNms.length;
+	}
+
+	/**
+	 *  ϰ ִ row ġ Ѵ. ù° row 1
+	 *
+	 * @return int  Row ġ
+	 */
+	public int getCurrentRow() {
+		return _currow;
+	}
+
+	/**
+	 * Ÿ̽ ѹ  row  Ѵ. д ߿   ִ.
+	 *
+	 * @param rows ѹ  row 
+	 * @throws SQLException SQLException
+	 */
+	public void setFetchSize(int rows) throws SQLException {
+		_getResultSet().setFetchSize(rows);
+	}
+
+	/**
+	 * Ÿ̽ ѹ  row  Ѵ.
+	 *
+	 * @return ѹ  row 
+	 * @throws SQLException SQLException
+	 */
+	public int getFetchSize() throws SQLException {
+		return _getResultSet().getFetchSize();
+	}
+
+	/**
+	 *  row ̵Ѵ.  ̻ row  Ŀ ݴ´.
+	 *
+	 * @return ̵ 
+	 * @throws SQLException SQLException
+	 */
+	public boolean nextRow() throws SQLException {
+		if (_fetched) {
+			_fetched = false;
+			return true;
+		}
+		if (_rs == null) {
+			return false;
+		}
+		if (_rs.next()) {
+			_currow++;
+			return true;
+		}
+		close();
+		return false;
+	}
+
+	/**
+	 * Ŀ  
+	 *
+	 * @return  true
+	 */
+	public boolean isClosed() {
+		return _rs == null;
+	}
+
+	/**
+	 *  row column ͸ Ѵ. ÷ ŸԿ ϵ TypeHandler  , ⺻ ڴ Number,  ܿ String  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Object get(int column) throws SQLException {
+		return _handlers[column - 1].getValue(_getResultSet(), column);
+	}
+
+	/**
+	 * ڷ  ̸   row column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Object get(String name) throws SQLException {
+		return get(findColumn(name));
+	}
+
+	/**
+	 *  row column  String ȯѴ. null ̸ ""  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public String getString(int column) throws SQLException {
+		String value = _getResultSet().getString(column);
+		if (value == null) {
+			return "";
+		}
+		return value.trim();
+	}
+
+	/**
+	 * ڷ  ̸   row String column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public String getString(String name) throws SQLException {
+		return getString(findColumn(name));
+	}
+
+	/**
+	 *  row column  int ȯѴ. null ̸ 0  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public int getInt(int column) throws SQLException {
+		return _getResultSet().getInt(column);
+	}
+
+	/**
+	 * ڷ  ̸   row int column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public int getInt(String name) throws SQLException {
+		return getInt(findColumn(name));
+	}
+
+	/**
+	 *  row column  long ȯѴ. null ̸ 0  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public long getLong(int column) throws SQLException {
+		return _getResultSet().getLong(column);
+	}
+
+	/**
+	 * ڷ  ̸   row long column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public long getLong(String name) throws SQLException {
+		return getLong(findColumn(name));
+	}
+
+	/**
+	 *  row column  float ȯѴ. null ̸ 0  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public float getFloat(int column) throws SQLException {
+		return _getResultSet().getFloat(column);
+	}
+
+	/**
+	 * ڷ  ̸   row float column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public float getFloat(String name) throws SQLException {
+		return getFloat(findColumn(name));
+	}
+
+	/**
+	 *  row column  double ȯѴ. null ̸ 0  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public double getDouble(int column) throws SQLException {
+		return _getResultSet().getDouble(column);
+	}
+
+	/**
+	 * ڷ  ̸   row double column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public double getDouble(String name) throws SQLException {
+		return getDouble(findColumn(name));
+	}
+
+	/**
+	 *  row column  BigDecimal ȯѴ. null ̸ 0  ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public BigDecimal getBigDecimal(int column) throws SQLException {
+		BigDecimal value = _getResultSet().getBigDecimal(column);
+		if (value == null) {
+			return BigDecimal.valueOf(0);
+		}
+		return value;
+	}
+
+	/**
+	 * ڷ  ̸   row BigDecimal column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public BigDecimal getBigDecimal(String name) throws SQLException {
+		return getBigDecimal(findColumn(name));
+	}
+
+	/**
+	 *  row column  Date ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Date getDate(int column) throws SQLException {
+		return _getResultSet().getDate(column);
+	}
+
+	/**
+	 * ڷ  ̸   row Date column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Date getDate(String name) throws SQLException {
+		return getDate(findColumn(name));
+	}
+
+	/**
+	 *  row column  Timestamp ȯѴ.
+	 *
+	 * @param column column number, ù° column 1
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Timestamp getTimestamp(int column) throws SQLException {
+		return _getResultSet().getTimestamp(column);
+	}
+
+	/**
+	 * ڷ  ̸   row Timestamp column ͸ Ѵ
+	 *
+	 * @param name а ϴ column ̸
+	 * @return column data
+	 * @throws SQLException SQLException
+	 */
+	public Timestamp getTimestamp(String name) throws SQLException {
+		return getTimestamp(findColumn(name));
+	}
+
+	/**
+	 * ڷ  ̸  column ġ Ѵ.
+	 *
+	 * @param name column ̸
+	 * @return column index, ù° column 1
+	 * @throws SQLException ÷  
+	 */
+	public int findColumn(String name) throws SQLException {
+		Integer index = name == null ? null : _colIndex.get(name.toUpperCase());
+		if (index == null) {
+			throw new SQLException("name : " + name + " is not found ");
+		}
+		return index.intValue();
+	}
+
+	/**
+	 *  row ÷(빮) Ű ϴ Map  Ѵ.
+	 *
+	 * @return  row 纻
+	 * @throws SQLException SQLException
+	 */
+	public Map<String, Object> toMap() throws SQLException {
+		Map<String, Object> row = new LinkedHashMap<String, Object>();
+		for (int i = 1; i <= _colNms.length; i++) {
+			if (!row.containsKey(_colNms[i - 1])) {
+				row.put(_colNms[i - 1], get(i));
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Ŀ ݴ´. ̹   ƹ ϵ  ʴ´.
+	 */
+	@Override
+	public void close() {
+		if (_rs != null) {
+			try {
+				_rs.close();
+			} catch (SQLException e) {
+				getLogger().error("close Error!", e);
+			}
+			_rs = null;
+			_fetched = false;
+		}
+		if (_owner != null) {
+			DBStatement owner = _owner;
+			_owner = null;
+			try {
+				owner.close();
+			} catch (SQLException e) {
+				getLogger().error("close Error!", e);
+			}
+		}
+	}
+
+	/**
+	 * ͷ͸ ȯѴ. ͷʹ  row ̵ Ŀ ڽ ش.
+	 * Ÿ̽  RuntimeException  μ .
+	 */
+	@Override
+	public Iterator<RowCursor> iterator() {
+		return new Iterator<RowCursor>() {
+			@Override
+			public boolean hasNext() {
+				if (_fetched) {
+					return true;
+				}
+				try {
+					_fetched = nextRow();
+				} catch (SQLException e) {
+					close();
+					throw new RuntimeException(e);
+				}
+				return _fetched;
+			}
+
+			@Override
+			public RowCursor next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				_fetched = false;
+				return RowCursor.this;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private ResultSet _getResultSet() throws SQLException {
+		if (_rs == null) {
+			throw new SQLException("Ŀ ϴ.");
+		}
+		return _rs;
+	}
+
+	private Log getLogger() {
+		return RowCursor._logger;
+	}
+}
@@ -42,7 +42,7 @@ public class SQLBatchPreparedStatement extends DBStatement {
 		try {
 			if (_pstmt == null) {
 				_pstmt = _connMgr.getConnection().prepareStatement(getSQL(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-				_pstmt.setFetchSize(100);
+				_pstmt.setFetchSize(_connMgr.getFetchSize());
 			}
 		} catch (SQLException e) {
 			getLogger().error("getPrepareStatment Error!");
@@ -77,6 +77,9 @@ public class SQLBatchPreparedStatement extends DBStatement {
 		int[] _upCnts = null;
 		try {
 			PreparedStatement pstmt = getPrepareStatment();
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL());
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (BATCH P_STATEMENT) FetchSize : " + pstmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
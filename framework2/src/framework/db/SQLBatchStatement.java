@@ -29,7 +29,7 @@ public class SQLBatchStatement extends DBStatement {
 		try {
 			if (_stmt == null) {
 				_stmt = _connMgr.getConnection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-				_stmt.setFetchSize(100);
+				_stmt.setFetchSize(_connMgr.getFetchSize());
 			}
 		} catch (SQLException e) {
 			getLogger().error("getStatement Error!");
@@ -59,6 +59,9 @@ public class SQLBatchStatement extends DBStatement {
 		int[] _upCnts = null;
 		try {
 			Statement stmt = getStatement();
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL());
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (BATCH STATEMENT) FetchSize : " + stmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
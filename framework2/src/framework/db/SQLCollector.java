@@ -0,0 +1,169 @@
+/**
+ * @(#)SQLCollector.java
+ */
+package framework.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import framework.util.PatternUtil;
+
+/**
+ *  忡  SQL  ϴ Ŭ̴.
+ * begin()    忡 SQL ϵǸ,  ʴ  ThreadLocal ȸ 븸 ߻Ѵ.
+ *   SQL  ε  迭 ϰ, ڿ  ۾  û   Ѵ.
+ *  û мϱ  ActionServlet Ѵ.
+ */
+public final class SQLCollector {
+	private static final int _MAX_SIZE = 50;
+	private static final String _MASK = "******";
+	private static final Pattern _SECRET_COLUMN = Pattern.compile("(?i)(passw|pwd)\\w*\\W*$");
+	private static final Pattern _SECRET_INSERT = Pattern.compile("(?is)^\\s*INSERT\\b.*(passw|pwd)");
+	private static final Pattern[] _PRIVATE_VALUES = new Pattern[] { PatternUtil.RESIDENT_REGISTRATION_NO, PatternUtil.CREDIT_CARD_NO, PatternUtil.CELLPHONE_NO, PatternUtil.EMAIL_ADDRESS };
+	private static final ThreadLocal<List<Entry>> _local = new ThreadLocal<List<Entry>>();
+
+	/**
+	 * , ܺο ü νϽȭ    
+	 */
+	private SQLCollector() {
+	}
+
+	/**
+	 *   SQL  Ѵ.
+	 */
+	public static void begin() {
+		_local.set(new ArrayList<Entry>());
+	}
+
+	/**
+	 *  尡 SQL  θ Ѵ.
+	 *
+	 * @return  
+	 */
+	public static boolean isActive() {
+		return _local.get() != null;
+	}
+
+	/**
+	 *  SQL  Ѵ.  ƴϰų ִ Ǽ  Ѵ.
+	 *
+	 * @param sql  SQL 
+	 */
+	public static void add(String sql) {
+		add(sql, null);
+	}
+
+	/**
+	 *  SQL  ε   Ѵ.  ƴϰų ִ Ǽ  Ѵ.
+	 *
+	 * @param sql ?  Ե SQL 
+	 * @param params ε  , ȣڰ Ŀ  ʴ 迭̾ Ѵ.
+	 */
+	public static void add(String sql, Object[] params) {
+		List<Entry> list = _local.get();
+		if (list != null && list.size() < _MAX_SIZE) {
+			list.add(new Entry(sql, params));
+		}
+	}
+
+	/**
+	 *   SQL  ϰ  SQL  Ѵ.
+	 *
+	 * @return  SQL 
+	 */
+	public static List<Entry> end() {
+		List<Entry> list = _local.get();
+		_local.remove();
+		if (list == null) {
+			return Collections.emptyList();
+		}
+		return list;
+	}
+
+	/**
+	 *  SQL  ϳ Ÿ Ŭ̴.
+	 */
+	public static final class Entry {
+		private final String _sql;
+		private final Object[] _params;
+
+		private Entry(String sql, Object[] params) {
+			this._sql = sql;
+			this._params = params;
+		}
+
+		/**
+		 * SQL  Ѵ.
+		 *
+		 * @return SQL 
+		 */
+		public String getSQL() {
+			return _sql;
+		}
+
+		/**
+		 * ε   Ѵ.
+		 *
+		 * @return ε  ,  null
+		 */
+		public Object[] getParams() {
+			return _params;
+		}
+
+		/**
+		 * ε   ä SQL  Ѵ.
+		 * йȣ ÷ εǴ  ֹεϹȣ, īȣ, ޴ȣ, ̸   ŷѴ.
+		 */
+		@Override
+		public String toString() {
+			if (_params == null || _params.length == 0) {
+				return _sql;
+			}
+			// INSERT  ÷  ġ  Ƿ йȣ ÷   ڿ  ŷѴ.
+			boolean secretInsert = _SECRET_INSERT.matcher(_sql).find();
+			StringBuilder buf = new StringBuilder(_sql.length() + _params.length * 8);
+			int index = 0;
+			int start = 0;
+			for (int mark = _sql.indexOf('?'); mark != -1; mark = _sql.indexOf('?', start)) {
+				buf.append(_sql, start, mark);
+				start = mark + 1;
+				if (index >= _params.length) {
+					buf.append('?');
+					continue;
+				}
+				buf.append(_format(_params[index++], buf, secretInsert));
+			}
+			buf.append(_sql, start, _sql.length());
+			return buf.toString().trim();
+		}
+
+		//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+		private String _format(Object value, CharSequence before, boolean secretInsert) {
+			if (value == null || "".equals(value)) {
+				return "NULL";
+			}
+			if (value instanceof Number || value instanceof Boolean) {
+				return value.toString();
+			}
+			if (value instanceof java.util.Date) {
+				return "'" + new java.sql.Timestamp(((java.util.Date) value).getTime()) + "'";
+			}
+			if (!(value instanceof CharSequence)) {
+				return "<" + value.getClass().getSimpleName() + ">";
+			}
+			int from = Math.max(0, before.length() - 64);
+			if (secretInsert || _SECRET_COLUMN.matcher(before.subSequence(from, before.length())).find()) {
+				return "'" + _MASK + "'";
+			}
+			String str = value.toString();
+			for (Pattern pattern : _PRIVATE_VALUES) {
+				if (pattern.matcher(str).find()) {
+					return "'" + _MASK + "'";
+				}
+			}
+			return "'" + str + "'";
+		}
+	}
+}
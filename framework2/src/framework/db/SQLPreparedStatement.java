@@ -18,19 +18,44 @@ public class SQLPreparedStatement extends DBStatement {
 	private ConnectionManager _connMgr = null;
 	private PreparedStatement _pstmt = null;
 	private RecordSet _rs = null;
+	private RowCursor _cursor = null;
 	private int _upCnt = 0;
 	private List<Object> _param = new ArrayList<Object>();
 	private Object _caller = null;
+	private int _fetchSize = 0;
 
 	public SQLPreparedStatement(String sql, ConnectionManager connMgr, Object caller) {
 		this._sql = sql;
 		this._connMgr = connMgr;
 		this._caller = caller;
+		this._fetchSize = connMgr.getFetchSize();
+	}
+
+	/**
+	 * Ÿ̽ ѹ  row  Ѵ. ⺻ ConnectionManager  fetch size ̴.
+	 *
+	 * @param fetchSize ѹ  row 
+	 * @throws SQLException SQLException
+	 */
+	public void setFetchSize(int fetchSize) throws SQLException {
+		this._fetchSize = fetchSize;
+		if (_pstmt != null) {
+			_pstmt.setFetchSize(fetchSize);
+		}
+	}
+
+	public int getFetchSize() {
+		return this._fetchSize;
 	}
 
 	@Override
 	public void close() throws SQLException {
 		try {
+			if (_cursor != null) {
+				RowCursor cursor = _cursor;
+				_cursor = null;
+				cursor.close();
+			}
 			if (_pstmt != null) {
 				_pstmt.close();
 				_pstmt = null;
@@ -55,34 +80,60 @@ public class SQLPreparedStatement extends DBStatement {
 			getLogger().error("Query is Null");
 			return null;
 		}
+		PreparedStatement paged = null;
+		Pagination page = null;
 		try {
-			PreparedStatement pstmt = getPrepareStatment();
-			if (getParamSize() > 0) {
-				for (int i = 1; i <= getParamSize(); i++) {
-					Object param = getObject(i - 1);
-					if (param == null || "".equals(param)) {
-						pstmt.setNull(i, java.sql.Types.VARCHAR);
-					} else if (param instanceof java.util.Date) {
-						java.util.Date d = (java.util.Date) param;
-						pstmt.setObject(i, new java.sql.Timestamp(d.getTime()));
-					} else {
-						pstmt.setObject(i, param);
-					}
+			page = Pagination.rewrite(_connMgr, getSQL(), currPage, pageSize);
+			PreparedStatement pstmt;
+			if (page == null) {
+				pstmt = getPrepareStatment();
+			} else {
+				paged = _connMgr.getConnection().prepareStatement(page.getSQL(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				paged.setFetchSize(Math.min(_fetchSize, pageSize));
+				pstmt = paged;
+			}
+			_setQueryParams(pstmt);
+			if (page != null) {
+				long[] params = page.getParams();
+				for (int i = 0; i < params.length; i++) {
+					pstmt.setLong(getParamSize() + i + 1, params[i]);
 				}
 			}
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL(), getParams());
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (P_STATEMENT) FetchSize : " + pstmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
 				log.append("@Sql Command: \n" + getQueryString());
+				if (page != null) {
+					log.append("\n@Sql Paging: currPage=" + currPage + ", pageSize=" + pageSize);
+				}
 				getLogger().debug(log.toString());
 			}
-			_rs = new RecordSet(pstmt.executeQuery(), currPage, pageSize);
+			if (page == null) {
+				_rs = new RecordSet(pstmt.executeQuery(), currPage, pageSize);
+			} else {
+				_rs = new RecordSet(pstmt.executeQuery(), 0, 0, page.getHiddenColumns());
+			}
 			if (getLogger().isDebugEnabled()) {
 				getLogger().debug("@Sql End (P_STATEMENT)");
 			}
 		} catch (SQLException e) {
+			if (page != null && page.isRetryable()) {
+				getLogger().warn("¡  Ͽ   ٽ մϴ. (" + e.getMessage() + ")");
+				Pagination.failed(getSQL());
+				return executeQuery(currPage, pageSize);
+			}
 			getLogger().error("executeQuery Error!");
 			throw new SQLException(e.getMessage() + "\nSQL : " + getQueryString());
+		} finally {
+			if (paged != null) {
+				try {
+					paged.close();
+				} catch (SQLException e) {
+				}
+			}
 		}
 		return _rs;
 	}
@@ -92,6 +143,28 @@ public class SQLPreparedStatement extends DBStatement {
 		return executeQuery(0, 0);
 	}
 
+	/**
+	 *  ϰ   row д Ŀ ȯѴ.
+	 *
+	 * @return RowCursor
+	 * @throws SQLException SQLException
+	 */
+	public RowCursor executeCursor() throws SQLException {
+		return executeCursor(_fetchSize);
+	}
+
+	/**
+	 *  ϰ   row д Ŀ ȯѴ.
+	 * ȯ Ŀ ٽ  ϰų    Բ .
+	 *
+	 * @param fetchSize Ÿ̽ ѹ  row 
+	 * @return RowCursor
+	 * @throws SQLException SQLException
+	 */
+	public RowCursor executeCursor(int fetchSize) throws SQLException {
+		return _executeCursor(fetchSize, null);
+	}
+
 	public RecordSet executeQuery(String sql, int currPage, int pageSize) throws SQLException {
 		setSQL(sql);
 		return executeQuery(currPage, pageSize);
@@ -127,6 +200,9 @@ public class SQLPreparedStatement extends DBStatement {
 					}
 				}
 			}
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL(), getParams());
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (P_STATEMENT) FetchSize : " + pstmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
@@ -163,6 +239,13 @@ public class SQLPreparedStatement extends DBStatement {
 		return _param.size();
 	}
 
+	/**
+	 * Ŀ    嵵 Բ ݴ Ŀ ȯѴ.
+	 */
+	RowCursor executeCursor(int fetchSize, boolean closeStatement) throws SQLException {
+		return _executeCursor(fetchSize, closeStatement ? this : null);
+	}
+
 	protected PreparedStatement getPrepareStatment() throws SQLException {
 		if (getSQL() == null) {
 			getLogger().error("Query is Null");
@@ -171,7 +254,7 @@ public class SQLPreparedStatement extends DBStatement {
 		try {
 			if (_pstmt == null) {
 				_pstmt = _connMgr.getConnection().prepareStatement(getSQL(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-				_pstmt.setFetchSize(100);
+				_pstmt.setFetchSize(_fetchSize);
 			}
 		} catch (SQLException e) {
 			getLogger().error("getPrepareStatment Error!");
@@ -266,4 +349,51 @@ public class SQLPreparedStatement extends DBStatement {
 		}
 		return buf.toString().trim();
 	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private RowCursor _executeCursor(int fetchSize, DBStatement owner) throws SQLException {
+		if (getSQL() == null) {
+			getLogger().error("Query is Null");
+			return null;
+		}
+		if (_cursor != null) {
+			_cursor.close();
+			_cursor = null;
+		}
+		try {
+			PreparedStatement pstmt = getPrepareStatment();
+			_setQueryParams(pstmt);
+			pstmt.setFetchSize(fetchSize);
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL(), getParams());
+			}
+			if (getLogger().isDebugEnabled()) {
+				StringBuilder log = new StringBuilder();
+				log.append("@Sql Start (P_STATEMENT CURSOR) FetchSize : " + pstmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
+				log.append("@Sql Command: \n" + getQueryString());
+				getLogger().debug(log.toString());
+			}
+			_cursor = new RowCursor(pstmt.executeQuery(), owner);
+		} catch (SQLException e) {
+			getLogger().error("executeCursor Error!");
+			throw new SQLException(e.getMessage() + "\nSQL : " + getQueryString());
+		}
+		return _cursor;
+	}
+
+	private void _setQueryParams(PreparedStatement pstmt) throws SQLException {
+		if (getParamSize() > 0) {
+			for (int i = 1; i <= getParamSize(); i++) {
+				Object param = getObject(i - 1);
+				if (param == null || "".equals(param)) {
+					pstmt.setNull(i, java.sql.Types.VARCHAR);
+				} else if (param instanceof java.util.Date) {
+					java.util.Date d = (java.util.Date) param;
+					pstmt.setObject(i, new java.sql.Timestamp(d.getTime()));
+				} else {
+					pstmt.setObject(i, param);
+				}
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -15,18 +15,37 @@ public class SQLStatement extends DBStatement {
 	private RecordSet _rs = null;
 	private int _upCnt = 0;
 	private Object _caller = null;
+	private int _fetchSize = 0;
 
 	public SQLStatement(String sql, ConnectionManager connMgr, Object caller) {
 		this._sql = sql;
 		this._connMgr = connMgr;
 		this._caller = caller;
+		this._fetchSize = connMgr.getFetchSize();
+	}
+
+	/**
+	 * Ÿ̽ ѹ  row  Ѵ. ⺻ ConnectionManager  fetch size ̴.
+	 *
+	 * @param fetchSize ѹ  row 
+	 * @throws SQLException SQLException
+	 */
+	public void setFetchSize(int fetchSize) throws SQLException {
+		this._fetchSize = fetchSize;
+		if (_stmt != null) {
+			_stmt.setFetchSize(fetchSize);
+		}
+	}
+
+	public int getFetchSize() {
+		return this._fetchSize;
 	}
 
 	protected Statement getStatement() throws SQLException {
 		try {
 			if (_stmt == null) {
 				_stmt = _connMgr.getConnection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-				_stmt.setFetchSize(100);
+				_stmt.setFetchSize(_fetchSize);
 			}
 		} catch (SQLException e) {
 			getLogger().error("getStatement Error!");
@@ -52,19 +71,34 @@ public class SQLStatement extends DBStatement {
 			getLogger().error("Query is Null");
 			return null;
 		}
+		Pagination page = null;
 		try {
 			Statement stmt = getStatement();
+			page = Pagination.rewrite(_connMgr, getSQL(), currPage, pageSize);
+			String sql = page == null ? getSQL() : page.getInlineSQL();
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(sql);
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (STATEMENT) FetchSize : " + stmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
-				log.append("@Sql Command: \n" + getSQL());
+				log.append("@Sql Command: \n" + sql);
 				getLogger().debug(log.toString());
 			}
-			_rs = new RecordSet(stmt.executeQuery(getSQL()), currPage, pageSize);
+			if (page == null) {
+				_rs = new RecordSet(stmt.executeQuery(sql), currPage, pageSize);
+			} else {
+				_rs = new RecordSet(stmt.executeQuery(sql), 0, 0, page.getHiddenColumns());
+			}
 			if (getLogger().isDebugEnabled()) {
 				getLogger().debug("@Sql End (STATEMENT)");
 			}
 		} catch (SQLException e) {
+			if (page != null && page.isRetryable()) {
+				getLogger().warn("¡  Ͽ   ٽ մϴ. (" + e.getMessage() + ")");
+				Pagination.failed(getSQL());
+				return executeQuery(currPage, pageSize);
+			}
 			getLogger().error("executeQuery Error!");
 			throw new SQLException(e.getMessage() + "\nSQL : " + getSQL());
 		}
@@ -92,6 +126,9 @@ public class SQLStatement extends DBStatement {
 		}
 		try {
 			Statement stmt = getStatement();
+			if (SQLCollector.isActive()) {
+				SQLCollector.add(getSQL());
+			}
 			if (getLogger().isDebugEnabled()) {
 				StringBuilder log = new StringBuilder();
 				log.append("@Sql Start (STATEMENT) FetchSize : " + stmt.getFetchSize() + " Caller : " + _caller.getClass().getName() + "\n");
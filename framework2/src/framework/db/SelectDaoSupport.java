@@ -10,10 +10,14 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * SELECT ϴ DAO ۼҶ ӹ޴ θ Ŭ̴.
+ * config.properties  jdbc.queryCache.enabled  true ̸ select()  framework.cache.Cache  ϰ
+ *   ε   ٽ ȸϸ Ÿ̽ ġ ʰ   Ѵ.
+ *   ð ų AbstractDao   д ̺ ⸦ ϸ ȿȭȴ.
  */
 public class SelectDaoSupport {
 	private static Log _logger = LogFactory.getLog(framework.db.SelectDaoSupport.class);
 	private ConnectionManager _connMgr = null;
+	private int _cacheSeconds = 0;
 
 	public ConnectionManager getConnectionManager() {
 		return _connMgr;
@@ -21,6 +25,26 @@ public class SelectDaoSupport {
 
 	public SelectDaoSupport(ConnectionManager connMgr) {
 		this._connMgr = connMgr;
+		this._cacheSeconds = QueryCache.getDefaultSeconds();
+	}
+
+	/**
+	 *  DAO select()  ĳ ð() Ѵ.
+	 *
+	 * @return ð(), 0 ̸ ĳ 
+	 */
+	public int getCacheSeconds() {
+		return _cacheSeconds;
+	}
+
+	/**
+	 *  DAO select()  ĳ ð() Ѵ. ⺻ jdbc.queryCache.seconds (⺻ 60) ̸
+	 * jdbc.queryCache.enabled  true  ƴϸ õȴ.
+	 *
+	 * @param seconds ð(), 0 ̸ ĳ 
+	 */
+	public void setCacheSeconds(int seconds) {
+		this._cacheSeconds = seconds;
 	}
 
 	public RecordSet select(String query) throws SQLException {
@@ -36,11 +60,51 @@ public class SelectDaoSupport {
 	}
 
 	public RecordSet select(String query, Object[] where, int currPage, int pageSize) throws SQLException {
+		String cacheKey = null;
+		if (_cacheSeconds > 0 && QueryCache.isEnabled() && !_connMgr.hasUncommittedWrites()) {
+			cacheKey = QueryCache.getKey(_connMgr.getCacheScope(), query, where, currPage, pageSize);
+			if (cacheKey != null) {
+				RecordSet rs = QueryCache.get(cacheKey);
+				if (rs != null) {
+					return rs;
+				}
+			}
+		}
+		RecordSet rs;
 		if (where == null) {
-			return statmentSelect(query, currPage, pageSize);
+			rs = statmentSelect(query, currPage, pageSize);
 		} else {
-			return prepardSelect(query, where, currPage, pageSize);
+			rs = prepardSelect(query, where, currPage, pageSize);
+		}
+		if (cacheKey != null) {
+			QueryCache.put(cacheKey, rs, _cacheSeconds);
+		}
+		return rs;
+	}
+
+	public RowCursor cursor(String query) throws SQLException {
+		return cursor(query, null, _connMgr.getFetchSize());
+	}
+
+	public RowCursor cursor(String query, Object[] where) throws SQLException {
+		return cursor(query, where, _connMgr.getFetchSize());
+	}
+
+	/**
+	 *    row д Ŀ ȯѴ. Ŀ   嵵 Բ .
+	 *
+	 * @param query 
+	 * @param where ε  
+	 * @param fetchSize Ÿ̽ ѹ  row 
+	 * @return RowCursor
+	 * @throws SQLException SQLException
+	 */
+	public RowCursor cursor(String query, Object[] where, int fetchSize) throws SQLException {
+		SQLPreparedStatement pstmt = _connMgr.createPrepareStatement(query);
+		if (where != null) {
+			pstmt.set(where);
 		}
+		return pstmt.executeCursor(fetchSize, true);
 	}
 
 	protected Log getLogger() {
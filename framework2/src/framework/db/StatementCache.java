@@ -0,0 +1,181 @@
+/**
+ * @(#)StatementCache.java
+ */
+package framework.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ؼǮ  ؼǸ ϳ Ǿ PreparedStatement ϴ LRU ĳ̴.
+ * SQL , ResultSet Ÿ, ü 尡   ٽ غ(prepare)ϸ  Ľ    غ  ش.
+ *   close() ޼ҵ    ʰ ĶͿ ġ   ĳ÷ ȯϸ,
+ * ĳð        ݴ´.
+ *   ĳÿ Ƿ  SQL ÿ   غϸ ĳõ    .
+ */
+final class StatementCache {
+	private final int _maxSize;
+	private final AtomicLong _hits;
+	private final AtomicLong _misses;
+	private final LinkedHashMap<String, PreparedStatement> _statements;
+
+	/**
+	 * StatementCache 
+	 *
+	 * @param maxSize  ִ  
+	 * @param hits ĳ  Ƚ  ī
+	 * @param misses ĳ  Ƚ  ī
+	 */
+	StatementCache(int maxSize, AtomicLong hits, AtomicLong misses) {
+		this._maxSize = maxSize;
+		this._hits = hits;
+		this._misses = misses;
+		this._statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+			private static final long serialVersionUID = 6203497418723561347L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+				if (size() > _maxSize) {
+					_closeQuietly(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * ĳõ  ų  غѴ.
+	 *
+	 * @param connection  ؼ
+	 * @param sql SQL 
+	 * @param resultSetType ResultSet Ÿ
+	 * @param resultSetConcurrency ResultSet ü 
+	 * @return close() ϸ ĳ÷ ȯǴ PreparedStatement
+	 * @throws SQLException  غ  
+	 */
+	PreparedStatement prepare(Connection connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		String key = resultSetType + ":" + resultSetConcurrency + ":" + sql;
+		PreparedStatement pstmt;
+		synchronized (_statements) {
+			pstmt = _statements.remove(key);
+		}
+		if (pstmt == null) {
+			_misses.incrementAndGet();
+			pstmt = connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		} else {
+			_hits.incrementAndGet();
+		}
+		return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class }, new CachedStatement(key, pstmt));
+	}
+
+	/**
+	 * ĳõ   ݴ´.  ؼ ݱ  ȣѴ.
+	 */
+	void close() {
+		List<PreparedStatement> statements;
+		synchronized (_statements) {
+			statements = new ArrayList<PreparedStatement>(_statements.values());
+			_statements.clear();
+		}
+		for (PreparedStatement pstmt : statements) {
+			_closeQuietly(pstmt);
+		}
+	}
+
+	/**
+	 * ĳõ   Ѵ.
+	 *
+	 * @return ĳõ  
+	 */
+	int size() {
+		synchronized (_statements) {
+			return _statements.size();
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	/**
+	 *  ģ  ĳ÷ ȯѴ. Ķͳ ġ  ߰ų  Ű  ̹  ȯ ʰ ݴ´.
+	 */
+	private void _checkIn(String key, PreparedStatement pstmt) {
+		try {
+			pstmt.clearParameters();
+			pstmt.clearBatch();
+			pstmt.clearWarnings();
+		} catch (SQLException e) {
+			_closeQuietly(pstmt);
+			return;
+		}
+		PreparedStatement prev;
+		synchronized (_statements) {
+			prev = _statements.get(key);
+			if (prev == null) {
+				_statements.put(key, pstmt);
+			}
+		}
+		if (prev != null) {
+			_closeQuietly(pstmt);
+		}
+	}
+
+	private void _closeQuietly(PreparedStatement pstmt) {
+		try {
+			pstmt.close();
+		} catch (SQLException e) {
+		}
+	}
+
+	/**
+	 * ĳÿ   Ͻ, close()  ȣϸ ĳ÷ ȯѴ.
+	 */
+	private final class CachedStatement implements InvocationHandler {
+		private final String _key;
+		private PreparedStatement _pstmt;
+
+		private CachedStatement(String key, PreparedStatement pstmt) {
+			this._key = key;
+			this._pstmt = pstmt;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return Boolean.valueOf(proxy == args[0]);
+			}
+			if ("hashCode".equals(name)) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			if ("isClosed".equals(name)) {
+				return Boolean.valueOf(_pstmt == null || _pstmt.isClosed());
+			}
+			if ("close".equals(name)) {
+				if (_pstmt != null) {
+					PreparedStatement pstmt = _pstmt;
+					_pstmt = null;
+					_checkIn(_key, pstmt);
+				}
+				return null;
+			}
+			if (_pstmt == null) {
+				throw new SQLException("̹  Դϴ.");
+			}
+			try {
+				return method.invoke(_pstmt, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
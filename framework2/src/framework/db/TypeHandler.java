@@ -0,0 +1,23 @@
+/**
+ * @(#)TypeHandler.java
+ */
+package framework.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ *   ÷  о RecordSet  RowCursor   ü ȯϴ ̴̽.
+ * ÷ ŸԺ ü TypeHandlerRegistry  ϸ,  б  ÷ ѹ ȴ.
+ */
+public interface TypeHandler {
+	/**
+	 *  row ÷  д´. ÷ ѹ ȣȴ.
+	 *
+	 * @param rs  
+	 * @param column ÷ ġ, ù° ÷ 1
+	 * @return  ,   null
+	 * @throws SQLException SQLException
+	 */
+	public Object getValue(ResultSet rs, int column) throws SQLException;
+}
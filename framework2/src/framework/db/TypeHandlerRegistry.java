@@ -0,0 +1,180 @@
+/**
+ * @(#)TypeHandlerRegistry.java
+ */
+package framework.db;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ÷ Ÿ(java.sql.Types) TypeHandler  ϴ Ŭ̴.
+ * ⺻ ڵ鷯 ÷  ÷ ġ ѹ ,   ڴ Number,  ܿ String  Ѵ.
+ * DATE, TIMESTAMP, CLOB, BLOB  ٸ · Ϸ ø̼ ʱȭ  register()  ڵ鷯 Ѵ.
+ * , Ǽ ŸԿ ڵ鷯 ϸ RecordSet  ش ÷ ⺻ 迭  ü 迭 Ѵ.
+ * <br>
+ * ex) BLOB ÷ byte[]  д : TypeHandlerRegistry.register(Types.BLOB, TypeHandlerRegistry.BLOB)
+ */
+public final class TypeHandlerRegistry {
+	/**
+	 * ڿ д ڵ鷯
+	 */
+	public static final TypeHandler STRING = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			return rs.getString(column);
+		}
+	};
+
+	/**
+	 * BigDecimal  д ڵ鷯
+	 */
+	public static final TypeHandler BIG_DECIMAL = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			return rs.getBigDecimal(column);
+		}
+	};
+
+	/**
+	 * java.sql.Date  д ڵ鷯
+	 */
+	public static final TypeHandler DATE = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			return rs.getDate(column);
+		}
+	};
+
+	/**
+	 * java.sql.Timestamp  д ڵ鷯
+	 */
+	public static final TypeHandler TIMESTAMP = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			return rs.getTimestamp(column);
+		}
+	};
+
+	/**
+	 * CLOB  ü  ڿ д ڵ鷯
+	 */
+	public static final TypeHandler CLOB = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			Clob clob = rs.getClob(column);
+			if (clob == null) {
+				return null;
+			}
+			return clob.getSubString(1, (int) clob.length());
+		}
+	};
+
+	/**
+	 * BLOB  ü  byte[]  д ڵ鷯
+	 */
+	public static final TypeHandler BLOB = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			Blob blob = rs.getBlob(column);
+			if (blob == null) {
+				return null;
+			}
+			return blob.getBytes(1, (int) blob.length());
+		}
+	};
+
+	/**
+	 * BINARY, VARBINARY ÷ byte[]  д ڵ鷯
+	 */
+	public static final TypeHandler BYTES = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			return rs.getBytes(column);
+		}
+	};
+
+	/**
+	 * Ÿ    ÷ ڵ鷯, ڴ Number  ܿ String  д´.
+	 */
+	public static final TypeHandler OBJECT = new TypeHandler() {
+		@Override
+		public Object getValue(ResultSet rs, int column) throws SQLException {
+			Object value = rs.getObject(column);
+			if (value == null || value instanceof Number) {
+				return value;
+			}
+			return rs.getString(column);
+		}
+	};
+
+	private static final Map<Integer, TypeHandler> _defaults = new HashMap<Integer, TypeHandler>();
+	private static final ConcurrentMap<Integer, TypeHandler> _handlers = new ConcurrentHashMap<Integer, TypeHandler>();
+
+	static {
+		int[] strings = { Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, Types.DATE, Types.TIME, Types.TIMESTAMP };
+		for (int type : strings) {
+			_defaults.put(Integer.valueOf(type), STRING);
+		}
+		_defaults.put(Integer.valueOf(Types.NUMERIC), BIG_DECIMAL);
+		_defaults.put(Integer.valueOf(Types.DECIMAL), BIG_DECIMAL);
+		_defaults.put(Integer.valueOf(Types.CLOB), CLOB);
+		_defaults.put(Integer.valueOf(Types.NCLOB), CLOB);
+	}
+
+	private TypeHandlerRegistry() {
+	}
+
+	/**
+	 * ÷ Ÿ ڵ鷯 Ѵ. Ŀ Ǵ RecordSet  RowCursor  ȴ.
+	 *
+	 * @param sqlType java.sql.Types  ÷ Ÿ
+	 * @param handler ڵ鷯
+	 */
+	public static void register(int sqlType, TypeHandler handler) {
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null");
+		}
+		_handlers.put(Integer.valueOf(sqlType), handler);
+	}
+
+	/**
+	 *  ڵ鷯 ϰ ⺻ ڵ鷯 ϵ Ѵ.
+	 *
+	 * @param sqlType java.sql.Types  ÷ Ÿ
+	 */
+	public static void unregister(int sqlType) {
+		_handlers.remove(Integer.valueOf(sqlType));
+	}
+
+	/**
+	 * ÷ Ÿ ڵ鷯 Ѵ.  ڵ鷯  ⺻ ڵ鷯 Ѵ.
+	 *
+	 * @param sqlType java.sql.Types  ÷ Ÿ
+	 * @return ڵ鷯
+	 */
+	public static TypeHandler getHandler(int sqlType) {
+		Integer key = Integer.valueOf(sqlType);
+		TypeHandler handler = _handlers.get(key);
+		if (handler == null) {
+			handler = _defaults.get(key);
+		}
+		if (handler == null) {
+			handler = OBJECT;
+		}
+		return handler;
+	}
+
+	/**
+	 * ø̼ ÷ ŸԿ ڵ鷯 ߴ 
+	 */
+	static boolean isRegistered(int sqlType) {
+		return _handlers.containsKey(Integer.valueOf(sqlType));
+	}
+}
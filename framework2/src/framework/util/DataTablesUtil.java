@@ -519,11 +519,12 @@ public class DataTablesUtil {
 	 * @throws ColumnNotFoundException
 	 */
 	private static String dataTablesRowStr(RecordSet rs, String[] colNms) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		StringBuilder buffer = new StringBuilder();
 		if (colNms.length > 0) {
 			buffer.append("[");
 			for (int c = 0; c < colNms.length; c++) {
-				Object value = rs.get(colNms[c].toUpperCase());
+				Object value = rs.get(colIdx[c]);
 				if (value == null) {
 					buffer.append("\"\"");
 				} else {
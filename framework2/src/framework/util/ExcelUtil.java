@@ -1316,10 +1316,11 @@ public class ExcelUtil {
 	 * @throws ColumnNotFoundException ColumnNotFoundException
 	 */
 	private static String sepRowStr(RecordSet rs, String[] colNms, String sep) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		StringBuilder buffer = new StringBuilder();
 		int rowCount = 0;
 		for (int c = 0; c < colNms.length; c++) {
-			Object value = rs.get(colNms[c]);
+			Object value = rs.get(colIdx[c]);
 			if (rowCount++ > 0) {
 				buffer.append(sep);
 			}
@@ -1375,9 +1376,10 @@ public class ExcelUtil {
 	private static void appendRow(Row row, RecordSet rs, String[] colNms, CellStyle cellStyle) throws ColumnNotFoundException {
 		if (rs.getRowCount() == 0)
 			return;
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		for (int c = 0; c < colNms.length; c++) {
 			Cell cell = row.createCell(c);
-			Object value = rs.get(colNms[c]);
+			Object value = rs.get(colIdx[c]);
 			if (value == null) {
 				cell.setCellType(Cell.CELL_TYPE_STRING);
 				cell.setCellValue("");
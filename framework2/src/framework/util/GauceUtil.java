@@ -562,8 +562,9 @@ public class GauceUtil {
 	 * @throws ColumnNotFoundException 
 	 */
 	private static void appendRow(GauceDataSet dSet, RecordSet rs, String[] colNms, String[] colInfo, int[] colSize, int[] colSizeReal, int[] colScale) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		for (int c = 0; c < colNms.length; c++) {
-			Object value = rs.get(colNms[c]);
+			Object value = rs.get(colIdx[c]);
 			if (value == null) {
 				dSet.put(colNms[c], "", colSize[c], GauceDataColumn.TB_NORMAL);
 			} else {
@@ -576,9 +577,9 @@ public class GauceUtil {
 							dblSize = colSizeReal[c];
 						}
 					}
-					dSet.put(colNms[c], rs.getDouble(colNms[c]), dblSize, GauceDataColumn.TB_DECIMAL);
+					dSet.put(colNms[c], rs.getDouble(colIdx[c]), dblSize, GauceDataColumn.TB_DECIMAL);
 				} else {
-					dSet.put(colNms[c], (rs.getString(colNms[c])), colSize[c], GauceDataColumn.TB_NORMAL);
+					dSet.put(colNms[c], (rs.getString(colIdx[c])), colSize[c], GauceDataColumn.TB_NORMAL);
 				}
 			}
 		}
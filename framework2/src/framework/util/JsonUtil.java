@@ -446,11 +446,12 @@ public class JsonUtil {
 	 * @throws ColumnNotFoundException
 	 */
 	private static String jsonRowStr(RecordSet rs, String[] colNms) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		StringBuilder buffer = new StringBuilder();
 		if (colNms.length > 0) {
 			buffer.append("{");
 			for (int c = 0; c < colNms.length; c++) {
-				Object value = rs.get(colNms[c]);
+				Object value = rs.get(colIdx[c]);
 				String key = "\"" + escapeJS(colNms[c].toLowerCase()) + "\"";
 
 				if (value == null) {
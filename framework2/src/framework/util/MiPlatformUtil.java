@@ -551,16 +551,17 @@ public class MiPlatformUtil {
 	private static void appendRow(Dataset dSet, RecordSet rs, String[] colNms) throws ColumnNotFoundException {
 		if (rs.getRowCount() == 0)
 			return;
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		int row = dSet.appendRow();
 		for (int c = 0; c < colNms.length; c++) {
-			Object value = rs.get(colNms[c]);
+			Object value = rs.get(colIdx[c]);
 			if (value == null) {
 				dSet.setColumn(row, colNms[c].toLowerCase(), "");
 			} else {
 				if (value instanceof Number) {
-					dSet.setColumn(row, colNms[c].toLowerCase(), rs.getDouble(colNms[c]));
+					dSet.setColumn(row, colNms[c].toLowerCase(), rs.getDouble(colIdx[c]));
 				} else {
-					dSet.setColumn(row, colNms[c].toLowerCase(), rs.getString(colNms[c]));
+					dSet.setColumn(row, colNms[c].toLowerCase(), rs.getString(colIdx[c]));
 				}
 			}
 		}
@@ -544,10 +544,11 @@ public class RDUtil {
 	 * @throws ColumnNotFoundException
 	 */
 	private static String rdRowStr(RecordSet rs, String[] colNms, String colSep) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		StringBuilder buffer = new StringBuilder();
 		for (int c = 0; c < colNms.length; c++) {
-			if (rs.get(colNms[c]) != null) {
-				buffer.append(escapeRD(rs.getString(colNms[c])));
+			if (rs.get(colIdx[c]) != null) {
+				buffer.append(escapeRD(rs.getString(colIdx[c])));
 			}
 			buffer.append(colSep);
 		}
@@ -481,10 +481,11 @@ public class XmlUtil {
 	 * @throws ColumnNotFoundException
 	 */
 	private static String xmlItemStr(RecordSet rs, String[] colNms) throws ColumnNotFoundException {
+		int[] colIdx = rs.getColumnIndex().indexesOf(colNms);
 		StringBuilder buffer = new StringBuilder();
 		buffer.append("<item>");
 		for (int c = 0; c < colNms.length; c++) {
-			Object value = rs.get(colNms[c]);
+			Object value = rs.get(colIdx[c]);
 			if (value == null) {
 				buffer.append("<" + colNms[c].toLowerCase() + ">" + "</" + colNms[c].toLowerCase() + ">");
 			} else {
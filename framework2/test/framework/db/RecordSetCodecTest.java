@@ -0,0 +1,430 @@
+/**
+ * @(#)RecordSetCodecTest.java
+ */
+package framework.db;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RecordSet ȭ (RecordSetCodec)   ׽Ʈ̴.
+ * fixtures 丮 Ʈ  ڵ尡  Ʈ ϰ, fixtures  Ʈ о   Ǵ ȮѴ.
+ *  ٲٸ    ĳø  ϰ ǹǷ,  ׽Ʈ ϸ RecordSet  FORMAT_VERSION  ø  fixtures  ٽ  Ѵ.
+ * <br>
+ * Deflate   Ʈ zlib   ޶  Ƿ,  쿡   Ǭ  Ѵ.
+ * recordset.compressThreshold  ⺻(8192) Ѵٰ Ѵ.
+ * <br>
+ *  : framework2 丮 src  test   
+ * <br>
+ * java -cp "bin:etc:lib/*" framework.db.RecordSetCodecTest [-update]
+ * <br>
+ * -update  ָ fixtures  ٽ . fixtures 丮 -Dfixtures=  ٲ  ִ.
+ */
+public final class RecordSetCodecTest {
+	private static final File _FIXTURES = new File(System.getProperty("fixtures", "test/framework/db/fixtures"));
+	private static final long[] _VARINTS = { 0L, 1L, 127L, 128L, 300L, 16384L, Integer.MAX_VALUE, Long.MAX_VALUE };
+	private static final long[] _SIGNED_VARINTS = { 0L, -1L, 1L, -64L, 64L, -65L, Integer.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE };
+	private static final String[] _NAMES = { "ID", "AMT", "NAME", "PRICE", "REG_DT" };
+	private static final int[] _TYPES = { Types.INTEGER, Types.DOUBLE, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP };
+	private static final int[] _SCALES = { 0, 0, 0, 2, 0 };
+	private static boolean _update = false;
+	private static int _failures = 0;
+
+	/**
+	 * , ܺο ü νϽȭ    
+	 */
+	private RecordSetCodecTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		_update = args.length > 0 && "-update".equals(args[0]);
+		// TIMESTAMP  ⺻ ó ð뿡  ٲ ڿ̹Ƿ Timestamp ü е Ѵ.
+		TypeHandlerRegistry.register(Types.TIMESTAMP, TypeHandlerRegistry.TIMESTAMP);
+		testVarInt();
+		testValues();
+		testRecordSet();
+		testDeflate();
+		if (_failures > 0) {
+			System.out.println("FAILED : " + _failures);
+			System.exit(1);
+		}
+		System.out.println(_update ? "UPDATED : " + _FIXTURES : "OK");
+	}
+
+	/**
+	 * varint  zigzag ڵ
+	 */
+	static void testVarInt() throws IOException {
+		_check("zigzag(-1)", Arrays.equals(_signedVarInt(-1L), new byte[] { 0x01 }));
+		_check("zigzag(1)", Arrays.equals(_signedVarInt(1L), new byte[] { 0x02 }));
+		_check("varint(300)", Arrays.equals(_varInt(300L), new byte[] { (byte) 0xAC, 0x02 }));
+		List<byte[]> items = new ArrayList<byte[]>();
+		List<String> comments = new ArrayList<String>();
+		for (long value : _VARINTS) {
+			items.add(_varInt(value));
+			comments.add("varint " + value);
+		}
+		for (long value : _SIGNED_VARINTS) {
+			items.add(_signedVarInt(value));
+			comments.add("zigzag " + value);
+		}
+		byte[] golden = _golden("varint.hex", items, comments);
+		_check("varint.hex", Arrays.equals(golden, _concat(items)));
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(golden));
+		for (long value : _VARINTS) {
+			_check("read varint " + value, RecordSetCodec.readVarInt(in) == value);
+		}
+		for (long value : _SIGNED_VARINTS) {
+			_check("read zigzag " + value, RecordSetCodec.readSignedVarInt(in) == value);
+		}
+		_check("varint.hex trailing bytes", in.available() == 0);
+	}
+
+	/**
+	 * ±װ  (BigDecimal, ʰ ִ Timestamp )
+	 */
+	static void testValues() throws IOException {
+		Object[] values = _values();
+		List<byte[]> items = new ArrayList<byte[]>();
+		List<String> comments = new ArrayList<String>();
+		for (Object value : values) {
+			ByteArrayOutputStream buf = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(buf);
+			RecordSetCodec.writeValue(out, value);
+			out.flush();
+			items.add(buf.toByteArray());
+			comments.add(_describe(value));
+		}
+		byte[] golden = _golden("values.hex", items, comments);
+		_check("values.hex", Arrays.equals(golden, _concat(items)));
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(golden));
+		for (Object value : values) {
+			Object read = RecordSetCodec.readValue(in);
+			_check("read " + value, value == null ? read == null : value.equals(read));
+			if (value instanceof Timestamp) {
+				_check("read nanos " + value, read instanceof Timestamp && ((Timestamp) read).getNanos() == ((Timestamp) value).getNanos());
+			}
+			if (value instanceof BigDecimal) {
+				_check("read scale " + value, read instanceof BigDecimal && ((BigDecimal) read).scale() == ((BigDecimal) value).scale());
+			}
+		}
+		_check("values.hex trailing bytes", in.available() == 0);
+	}
+
+	/**
+	 *  ʴ ũ RecordSet, long ÷ double ÷ null Ʈ Ѵ.
+	 */
+	static void testRecordSet() throws Exception {
+		Object[][] data = {
+			{ 1, 2.5, "a", new BigDecimal("12.30"), _timestamp(1709214301123L, 123456789) },
+			{ null, null, null, null, null },
+			{ -3, -0.125, "ѱ", new BigDecimal("-0.01"), _timestamp(0L, 1) },
+			{ 1000000, 1.0E10, "", new BigDecimal("99999999999999999999.99"), _timestamp(-1L, 999999999) } };
+		RecordSet rs = new RecordSet(_resultSet(data));
+		byte[] bytes = _serialize(rs);
+		byte[] golden = _golden("recordset.hex", bytes);
+		_check("recordset.hex", Arrays.equals(golden, bytes));
+		_check("recordset.hex not deflated", (_header(golden)[1] & 1) == 0);
+		_checkRows("recordset.hex", _deserialize(golden), rs);
+	}
+
+	/**
+	 * Ǵ ũ RecordSet
+	 */
+	static void testDeflate() throws Exception {
+		Object[][] data = new Object[400][];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Object[] { i % 7 == 0 ? null : Integer.valueOf(i), i % 5 == 0 ? null : Double.valueOf(i / 4.0), "NAME-" + (i % 10), new BigDecimal(i).movePointLeft(2), _timestamp(1709214301000L + i * 1000L, i * 1000) };
+		}
+		RecordSet rs = new RecordSet(_resultSet(data));
+		byte[] bytes = _serialize(rs);
+		byte[] golden = _golden("recordset-deflate.hex", bytes);
+		long[] header = _header(golden);
+		_check("recordset-deflate.hex deflated", (header[1] & 1) != 0);
+		_check("recordset-deflate.hex header", Arrays.equals(header, _header(bytes)));
+		_check("recordset-deflate.hex body", Arrays.equals(_body(golden), _body(bytes)));
+		_checkRows("recordset-deflate.hex", _deserialize(golden), rs);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////////////Private ޼ҵ
+	private static Object[] _values() {
+		return new Object[] { null, "abc", "ѱ", new BigDecimal("-12345.6789"), new BigDecimal("1E+3"), new BigDecimal("123456789012345678901234567890"), Integer.valueOf(-2), Long.valueOf(Long.MIN_VALUE), Double.valueOf(-0.5), Float.valueOf(1.5f), _timestamp(1709214301123L, 123456789), _timestamp(-1L, 999999999), new java.sql.Date(1709164800000L) };
+	}
+
+	private static Timestamp _timestamp(long millis, int nanos) {
+		Timestamp timestamp = new Timestamp(millis);
+		timestamp.setNanos(nanos);
+		return timestamp;
+	}
+
+	private static byte[] _varInt(long value) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buf);
+		RecordSetCodec.writeVarInt(out, value);
+		out.flush();
+		return buf.toByteArray();
+	}
+
+	private static byte[] _signedVarInt(long value) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buf);
+		RecordSetCodec.writeSignedVarInt(out, value);
+		out.flush();
+		return buf.toByteArray();
+	}
+
+	private static byte[] _serialize(RecordSet rs) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(buf);
+		rs.writeExternal(out);
+		out.close();
+		return buf.toByteArray();
+	}
+
+	private static RecordSet _deserialize(byte[] bytes) throws Exception {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		try {
+			RecordSet rs = new RecordSet();
+			rs.readExternal(in);
+			return rs;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * , ÷,    ̸ Ѵ.
+	 */
+	private static long[] _header(byte[] bytes) throws IOException {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		try {
+			return new long[] { in.readUnsignedByte(), in.readUnsignedByte(), RecordSetCodec.readVarInt(in) };
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 *  Ǭ  Ѵ.
+	 */
+	private static byte[] _body(byte[] bytes) throws IOException {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		try {
+			in.readUnsignedByte();
+			int flags = in.readUnsignedByte();
+			int length = (int) RecordSetCodec.readVarInt(in);
+			byte[] body = RecordSetCodec.readBytes(in);
+			return (flags & 1) == 0 ? body : RecordSetCodec.inflate(body, length);
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void _checkRows(String name, RecordSet actual, RecordSet expected) {
+		_check(name + " columns", Arrays.equals(actual.getColumns(), expected.getColumns()));
+		_check(name + " types", Arrays.equals(actual.getColumnsType(), expected.getColumnsType()));
+		_check(name + " scales", Arrays.equals(actual.getColumnsScale(), expected.getColumnsScale()));
+		_check(name + " rows", actual.getRows().equals(expected.getRows()));
+	}
+
+	private static void _check(String name, boolean result) {
+		if (!result) {
+			_failures++;
+			System.out.println("FAIL : " + name);
+		}
+	}
+
+	private static byte[] _concat(List<byte[]> items) {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		for (byte[] item : items) {
+			buf.write(item, 0, item.length);
+		}
+		return buf.toByteArray();
+	}
+
+	private static byte[] _golden(String name, byte[] bytes) throws IOException {
+		List<byte[]> items = new ArrayList<byte[]>();
+		List<String> comments = new ArrayList<String>();
+		for (int i = 0; i < bytes.length; i += 16) {
+			items.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + 16)));
+			comments.add(null);
+		}
+		return _golden(name, items, comments);
+	}
+
+	/**
+	 * -update ̸ fixture   , ƴϸ fixture  Ʈ д´.
+	 * fixture  16 ؽƮ̸ # ڴ ̴ּ.
+	 */
+	private static byte[] _golden(String name, List<byte[]> items, List<String> comments) throws IOException {
+		File file = new File(_FIXTURES, name);
+		if (_update) {
+			_FIXTURES.mkdirs();
+			Writer out = new OutputStreamWriter(new FileOutputStream(file), "US-ASCII");
+			try {
+				out.write("# " + name + " : generated by RecordSetCodecTest -update\n");
+				for (int i = 0; i < items.size(); i++) {
+					StringBuilder line = new StringBuilder();
+					for (byte b : items.get(i)) {
+						line.append(line.length() == 0 ? "" : " ").append(String.format("%02x", b & 0xFF));
+					}
+					if (comments.get(i) != null) {
+						while (line.length() < 48) {
+							line.append(' ');
+						}
+						line.append(" # ").append(comments.get(i));
+					}
+					out.write(line.append('\n').toString());
+				}
+			} finally {
+				out.close();
+			}
+		}
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "US-ASCII"));
+		try {
+			for (String line = in.readLine(); line != null; line = in.readLine()) {
+				int comment = line.indexOf('#');
+				String hex = (comment == -1 ? line : line.substring(0, comment)).trim();
+				if (hex.length() == 0) {
+					continue;
+				}
+				for (String token : hex.split("\\s+")) {
+					buf.write(Integer.parseInt(token, 16));
+				}
+			}
+		} finally {
+			in.close();
+		}
+		return buf.toByteArray();
+	}
+
+	/**
+	 * fixture ּ    Ѵ. ð뿡  ٲ ʵ ¥ иʷ ǥѴ.
+	 */
+	private static String _describe(Object value) {
+		if (value == null) {
+			return "null";
+		}
+		String name = value.getClass().getSimpleName();
+		if (value instanceof Timestamp) {
+			return name + " " + ((Timestamp) value).getTime() + "ms " + ((Timestamp) value).getNanos() + "ns";
+		}
+		if (value instanceof java.util.Date) {
+			return name + " " + ((java.util.Date) value).getTime() + "ms";
+		}
+		StringBuilder buf = new StringBuilder(name).append(' ');
+		for (char c : value.toString().toCharArray()) {
+			if (c < 0x20 || c > 0x7E) {
+				buf.append(String.format("\\u%04X", (int) c));
+			} else {
+				buf.append(c);
+			}
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * data 迭  ִ ResultSet  .
+	 */
+	private static ResultSet _resultSet(final Object[][] data) {
+		ClassLoader loader = RecordSetCodecTest.class.getClassLoader();
+		final ResultSetMetaData rsmd = (ResultSetMetaData) Proxy.newProxyInstance(loader, new Class<?>[] { ResultSetMetaData.class }, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if ("getColumnCount".equals(name)) {
+					return Integer.valueOf(_NAMES.length);
+				}
+				int column = ((Integer) args[0]).intValue() - 1;
+				if ("getColumnName".equals(name) || "getColumnLabel".equals(name)) {
+					return _NAMES[column];
+				}
+				if ("getColumnType".equals(name)) {
+					return Integer.valueOf(_TYPES[column]);
+				}
+				if ("getColumnTypeName".equals(name)) {
+					return "T" + _TYPES[column];
+				}
+				if ("getPrecision".equals(name)) {
+					return Integer.valueOf(_TYPES[column] == Types.DECIMAL ? 22 : 10);
+				}
+				if ("getScale".equals(name)) {
+					return Integer.valueOf(_SCALES[column]);
+				}
+				if ("getColumnDisplaySize".equals(name)) {
+					return Integer.valueOf(20 + column);
+				}
+				return _default(method);
+			}
+		});
+		return (ResultSet) Proxy.newProxyInstance(loader, new Class<?>[] { ResultSet.class }, new InvocationHandler() {
+			private int _row = -1;
+			private boolean _wasNull = false;
+
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if ("getMetaData".equals(name)) {
+					return rsmd;
+				}
+				if ("next".equals(name)) {
+					return Boolean.valueOf(++_row < data.length);
+				}
+				if ("wasNull".equals(name)) {
+					return Boolean.valueOf(_wasNull);
+				}
+				if (name.startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer) {
+					Object value = data[_row][((Integer) args[0]).intValue() - 1];
+					_wasNull = value == null;
+					if ("getLong".equals(name)) {
+						return Long.valueOf(value == null ? 0L : ((Number) value).longValue());
+					}
+					if ("getDouble".equals(name)) {
+						return Double.valueOf(value == null ? 0D : ((Number) value).doubleValue());
+					}
+					if ("getString".equals(name)) {
+						return value == null ? null : value.toString();
+					}
+					return value;
+				}
+				return _default(method);
+			}
+		});
+	}
+
+	private static Object _default(Method method) {
+		Class<?> type = method.getReturnType();
+		if (type == Boolean.TYPE) {
+			return Boolean.FALSE;
+		}
+		if (type == Integer.TYPE) {
+			return Integer.valueOf(0);
+		}
+		if (type == Long.TYPE) {
+			return Long.valueOf(0L);
+		}
+		return null;
+	}
+}